@@ -0,0 +1,384 @@
+package entities;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import utilz.AssetCache;
+import utilz.Constants;
+import utilz.ImageTransforms;
+import utilz.LoadSave;
+import utilz.PackedSheet;
+
+/**
+ * Set imutabil de animații extras dintr-un spritesheet: cadrele normale și
+ * variantele lor inversate pe orizontală.
+ * Fiecare set este construit o singură dată pentru un spritesheet și partajat
+ * (flyweight) de toate entitățile de același tip, astfel încât crearea unei noi
+ * entități nu mai decodează și nu mai inversează imagini și nu alocă memorie nouă pentru cadre.
+ * <p>
+ * Cadrele inversate sunt generate la cerere, la prima afișare a fiecăruia, deci cadrele
+ * care nu sunt niciodată afișate în cealaltă direcție nu ocupă memorie. Tabelul cadrelor
+ * inversate poate fi folosit din orice fir de execuție (inclusiv cel de randare) și poate fi
+ * completat în avans, în fundal (vezi {@link Constants.Animations#WARM_FLIPPED_FRAMES}).
+ * <p>
+ * Dacă pentru spritesheet există un atlas compact generat de {@link utilz.AtlasPacker},
+ * cadrele sunt preluate din acesta, decupate la pixelii vizibili; {@link #draw} le desenează
+ * la poziția pe care o aveau în celula originală, deci entitățile nu trebuie să știe de decupare.
+ */
+public final class AnimationSet {
+
+    /** Seturile deja construite, după spritesheet și dimensiunea celulei. */
+    private static final Map<String, AnimationSet> cache = new ConcurrentHashMap<>();
+    /** Numărul total de cadre inversate generate, pentru toate seturile. */
+    private static final AtomicLong flippedGenerated = new AtomicLong();
+    /** Memoria ocupată de cadrele inversate generate, în octeți. */
+    private static final AtomicLong flippedBytes = new AtomicLong();
+
+    /** Cadrele normale, pe rânduri (un rând pentru fiecare animație). */
+    private final BufferedImage[][] frames;
+    /** Lățimea unei celule din spritesheet-ul original. */
+    private final int cellWidth;
+    /** Înălțimea unei celule din spritesheet-ul original. */
+    private final int cellHeight;
+    /** Decalajul pe X al fiecărui cadru față de colțul celulei (indexat ca {@link #flippedFrames}). */
+    private final int[] offsetX;
+    /** Decalajul pe Y al fiecărui cadru față de colțul celulei (indexat ca {@link #flippedFrames}). */
+    private final int[] offsetY;
+    /** Indicele primului cadru al fiecărui rând în {@link #flippedFrames}. */
+    private final int[] rowOffsets;
+    /** Cadrele inversate, generate la cerere; indexate cu {@code rowOffsets[row] + index}. */
+    private final AtomicReferenceArray<BufferedImage> flippedFrames;
+    /** Marchează cadrele preluate din setul de rezervă (inversate tot de acesta). */
+    private final boolean[] fromFallback;
+    /** Setul din care se preiau cadrele lipsă sau {@code null}. */
+    private final AnimationSet fallback;
+
+    /**
+     * Returnează setul de animații pentru spritesheet-ul dat, construindu-l la prima cerere.
+     * Rândul {@code r} al spritesheet-ului conține {@code framesPerRow[r]} cadre de dimensiunea celulei.
+     *
+     * @param sheetPath Numele fișierului spritesheet (vezi {@link LoadSave}).
+     * @param cellWidth Lățimea unui cadru în spritesheet.
+     * @param cellHeight Înălțimea unui cadru în spritesheet.
+     * @param framesPerRow Numărul de cadre pentru fiecare rând.
+     * @return Setul de animații partajat.
+     */
+    public static AnimationSet get(String sheetPath, int cellWidth, int cellHeight, int[] framesPerRow) {
+        return get(sheetPath, cellWidth, cellHeight, framesPerRow, null);
+    }
+
+    /**
+     * Returnează setul de animații pentru spritesheet-ul dat, construindu-l la prima cerere.
+     * Cadrele care lipsesc din spritesheet (sau întregul spritesheet, dacă nu poate fi încărcat)
+     * sunt preluate din setul de rezervă, dacă acesta este specificat.
+     *
+     * @param sheetPath Numele fișierului spritesheet (vezi {@link LoadSave}).
+     * @param cellWidth Lățimea unui cadru în spritesheet.
+     * @param cellHeight Înălțimea unui cadru în spritesheet.
+     * @param framesPerRow Numărul de cadre pentru fiecare rând.
+     * @param fallback Setul din care se preiau cadrele lipsă sau {@code null}.
+     * @return Setul de animații partajat.
+     */
+    public static AnimationSet get(String sheetPath, int cellWidth, int cellHeight, int[] framesPerRow, AnimationSet fallback) {
+        String key = sheetPath + "@" + cellWidth + "x" + cellHeight;
+        return cache.computeIfAbsent(key, k -> {
+            AnimationSet set = new AnimationSet(sheetPath, cellWidth, cellHeight, framesPerRow, fallback);
+            if (Constants.Animations.WARM_FLIPPED_FRAMES) {
+                set.warmFlippedFrames();
+            }
+            return set;
+        });
+    }
+
+    /**
+     * Elimină din cache seturile construite pentru spritesheet-ul dat (și atlasul lui compact),
+     * pentru ca memoria lor să poată fi eliberată. Entitățile care mai folosesc un set eliminat
+     * îl păstrează; o cerere ulterioară construiește un set nou.
+     *
+     * @param sheetPath Numele fișierului spritesheet.
+     */
+    public static void evict(String sheetPath) {
+        cache.keySet().removeIf(key -> key.startsWith(sheetPath + "@"));
+        PackedSheet.evict(sheetPath);
+    }
+
+    /**
+     * Construiește setul de animații, extrăgând cadrele din spritesheet.
+     * Cadrele inversate nu sunt generate aici, ci la prima cerere.
+     *
+     * @param sheetPath Numele fișierului spritesheet.
+     * @param cellWidth Lățimea unui cadru.
+     * @param cellHeight Înălțimea unui cadru.
+     * @param framesPerRow Numărul de cadre pentru fiecare rând.
+     * @param fallback Setul din care se preiau cadrele lipsă sau {@code null}.
+     */
+    private AnimationSet(String sheetPath, int cellWidth, int cellHeight, int[] framesPerRow, AnimationSet fallback) {
+        PackedSheet packed = PackedSheet.load(sheetPath);
+        if (packed != null && (packed.getCellWidth() != cellWidth || packed.getCellHeight() != cellHeight)) {
+            System.err.println("AnimationSet: atlasul compact pentru " + sheetPath + " are alte dimensiuni de celulă, este ignorat.");
+            packed = null;
+        }
+        BufferedImage sheet = packed == null ? LoadSave.getSpriteAtlas(sheetPath) : null;
+        if (packed == null && sheet == null) {
+            System.err.println("AnimationSet: spritesheet-ul nu a putut fi încărcat: " + sheetPath);
+        }
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.fallback = fallback;
+        frames = new BufferedImage[framesPerRow.length][];
+        rowOffsets = new int[framesPerRow.length];
+        int total = 0;
+        for (int row = 0; row < framesPerRow.length; row++) {
+            rowOffsets[row] = total;
+            total += framesPerRow[row];
+        }
+        flippedFrames = new AtomicReferenceArray<>(total);
+        fromFallback = new boolean[total];
+        offsetX = new int[total];
+        offsetY = new int[total];
+
+        for (int row = 0; row < framesPerRow.length; row++) {
+            frames[row] = new BufferedImage[framesPerRow[row]];
+            for (int col = 0; col < framesPerRow[row]; col++) {
+                int slot = rowOffsets[row] + col;
+                int x = col * cellWidth;
+                int y = row * cellHeight;
+                if (packed != null && packed.getFrame(row, col) != null) {
+                    frames[row][col] = packed.getFrame(row, col);
+                    offsetX[slot] = packed.getOffsetX(row, col);
+                    offsetY[slot] = packed.getOffsetY(row, col);
+                } else if (sheet != null && x + cellWidth <= sheet.getWidth() && y + cellHeight <= sheet.getHeight()) {
+                    frames[row][col] = sheet.getSubimage(x, y, cellWidth, cellHeight);
+                } else if (fallback != null && fallback.hasFrame(row, col)) {
+                    int fallbackSlot = fallback.rowOffsets[row] + col;
+                    frames[row][col] = fallback.frames[row][col];
+                    offsetX[slot] = fallback.offsetX[fallbackSlot];
+                    offsetY[slot] = fallback.offsetY[fallbackSlot];
+                    fromFallback[slot] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifică dacă animația are cadrul dat (fără a genera varianta inversată).
+     *
+     * @param row Rândul animației.
+     * @param index Indexul cadrului în animație.
+     * @return {@code true} dacă cadrul există.
+     */
+    public boolean hasFrame(int row, int index) {
+        return getFrame(row, index, false) != null;
+    }
+
+    /**
+     * Desenează un cadru în dreptunghiul ocupat de celula lui originală, scalată la dimensiunea dată.
+     * Pentru cadrele decupate din atlasul compact se desenează doar partea vizibilă, la poziția ei din celulă.
+     *
+     * @param g Contextul grafic pe care se desenează.
+     * @param row Rândul animației.
+     * @param index Indexul cadrului în animație.
+     * @param flipped {@code true} pentru varianta inversată pe orizontală.
+     * @param x Poziția x a celulei pe ecran.
+     * @param y Poziția y a celulei pe ecran.
+     * @param width Lățimea cu care este desenată celula.
+     * @param height Înălțimea cu care este desenată celula.
+     * @return {@code true} dacă cadrul a fost desenat.
+     */
+    public boolean draw(Graphics g, int row, int index, boolean flipped, int x, int y, int width, int height) {
+        BufferedImage frame = getFrame(row, index, flipped);
+        if (frame == null) {
+            return false;
+        }
+        int slot = rowOffsets[row] + index;
+        int frameX = flipped ? cellWidth - offsetX[slot] - frame.getWidth() : offsetX[slot];
+        if (frameX == 0 && offsetY[slot] == 0 && frame.getWidth() == cellWidth && frame.getHeight() == cellHeight) {
+            g.drawImage(frame, x, y, width, height, null);
+            return true;
+        }
+        float scaleX = (float) width / cellWidth;
+        float scaleY = (float) height / cellHeight;
+        int dx1 = x + Math.round(frameX * scaleX);
+        int dy1 = y + Math.round(offsetY[slot] * scaleY);
+        int dx2 = x + Math.round((frameX + frame.getWidth()) * scaleX);
+        int dy2 = y + Math.round((offsetY[slot] + frame.getHeight()) * scaleY);
+        g.drawImage(frame, dx1, dy1, dx2 - dx1, dy2 - dy1, null);
+        return true;
+    }
+
+    /**
+     * Returnează un cadru al unei animații. Varianta inversată este generată la prima cerere
+     * și refolosită apoi; metoda poate fi apelată concurent din mai multe fire de execuție.
+     *
+     * @param row Rândul animației.
+     * @param index Indexul cadrului în animație.
+     * @param flipped {@code true} pentru varianta inversată pe orizontală.
+     * @return Cadrul sau {@code null} dacă nu există.
+     */
+    public BufferedImage getFrame(int row, int index, boolean flipped) {
+        if (row < 0 || row >= frames.length || index < 0 || index >= frames[row].length) {
+            return null;
+        }
+        if (!flipped) {
+            return frames[row][index];
+        }
+        int slot = rowOffsets[row] + index;
+        BufferedImage image = flippedFrames.get(slot);
+        if (image == null && frames[row][index] != null) {
+            image = createFlipped(row, index, slot);
+        }
+        return image;
+    }
+
+    /**
+     * Generează în fundal toate cadrele inversate care nu au fost încă generate. Metoda revine imediat.
+     * Cadrele sunt inversate în paralel, câte unul per task, cu {@link ImageTransforms#flipHorizontal(BufferedImage[][])}
+     * pe {@link ForkJoinPool#commonPool()}; cele generate între timp la cerere sunt păstrate.
+     */
+    public void warmFlippedFrames() {
+        ForkJoinPool.commonPool().execute(() -> {
+            // Doar cadrele proprii care nu au fost încă inversate; cele din setul de rezervă sunt preluate de acolo
+            BufferedImage[][] pending = new BufferedImage[frames.length][];
+            for (int row = 0; row < frames.length; row++) {
+                pending[row] = new BufferedImage[frames[row].length];
+                for (int col = 0; col < frames[row].length; col++) {
+                    int slot = rowOffsets[row] + col;
+                    if (!fromFallback[slot] && flippedFrames.get(slot) == null) {
+                        pending[row][col] = frames[row][col];
+                    }
+                }
+            }
+            BufferedImage[][] flipped = ImageTransforms.flipHorizontal(pending);
+            for (int row = 0; row < frames.length; row++) {
+                for (int col = 0; col < frames[row].length; col++) {
+                    int slot = rowOffsets[row] + col;
+                    if (flipped[row] != null && flipped[row][col] != null) {
+                        publishFlipped(slot, flipped[row][col]);
+                    } else {
+                        getFrame(row, col, true); // Cadrele din setul de rezervă
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Returnează numărul de rânduri (animații) din set.
+     * @return Numărul de rânduri.
+     */
+    public int getRowCount() {
+        return frames.length;
+    }
+
+    /**
+     * Returnează numărul de cadre ale unei animații.
+     *
+     * @param row Rândul animației.
+     * @return Numărul de cadre sau 0 dacă rândul nu există.
+     */
+    public int getFrameCount(int row) {
+        return (row < 0 || row >= frames.length) ? 0 : frames[row].length;
+    }
+
+    /**
+     * Estimează memoria ocupată de set: imaginile din care au fost extrase cadrele
+     * (atlasul compact sau spritesheet-ul) și cadrele inversate generate până acum.
+     * Cadrele preluate din setul de rezervă nu sunt incluse.
+     *
+     * @return Numărul estimat de octeți.
+     */
+    public long getMemoryBytes() {
+        Set<DataBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        long total = 0;
+        for (int row = 0; row < frames.length; row++) {
+            for (int col = 0; col < frames[row].length; col++) {
+                int slot = rowOffsets[row] + col;
+                if (frames[row][col] == null || fromFallback[slot]) continue;
+                // Cadrele sunt sub-imagini, deci partajează bufferul imaginii sursă
+                if (buffers.add(frames[row][col].getRaster().getDataBuffer())) {
+                    total += AssetCache.estimateBytes(frames[row][col]);
+                }
+                BufferedImage flipped = flippedFrames.get(slot);
+                if (flipped != null) {
+                    total += frameBytes(flipped);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Afișează în consolă câte cadre inversate au fost generate (pentru toate seturile)
+     * și câtă memorie s-a economisit față de inversarea tuturor cadrelor la încărcare.
+     */
+    public static void printFlipStats() {
+        long possible = 0, possibleBytes = 0;
+        for (AnimationSet set : cache.values()) {
+            for (int row = 0; row < set.frames.length; row++) {
+                for (int col = 0; col < set.frames[row].length; col++) {
+                    BufferedImage frame = set.frames[row][col];
+                    if (frame != null && !set.fromFallback[set.rowOffsets[row] + col]) {
+                        possible++;
+                        possibleBytes += frameBytes(frame);
+                    }
+                }
+            }
+        }
+        System.out.println("AnimationSet: " + flippedGenerated.get() + " din " + possible
+                + " cadre inversate generate, memorie economisită: "
+                + ((possibleBytes - flippedBytes.get()) / 1024) + " KB din " + (possibleBytes / 1024) + " KB");
+    }
+
+    /**
+     * Generează varianta inversată a unui cadru și o publică în tabel.
+     * Dacă alt fir de execuție a generat-o între timp, se folosește varianta acestuia.
+     *
+     * @param row Rândul animației.
+     * @param index Indexul cadrului.
+     * @param slot Poziția cadrului în {@link #flippedFrames}.
+     * @return Cadrul inversat.
+     */
+    private BufferedImage createFlipped(int row, int index, int slot) {
+        BufferedImage image = fromFallback[slot]
+                ? fallback.getFrame(row, index, true)
+                : ImageTransforms.flipHorizontal(frames[row][index]);
+        return publishFlipped(slot, image);
+    }
+
+    /**
+     * Publică în tabel varianta inversată a unui cadru, dacă alt fir de execuție nu a publicat-o deja.
+     *
+     * @param slot Poziția cadrului în {@link #flippedFrames}.
+     * @param image Cadrul inversat.
+     * @return Cadrul inversat publicat (al acestui apel sau cel existent).
+     */
+    private BufferedImage publishFlipped(int slot, BufferedImage image) {
+        if (flippedFrames.compareAndSet(slot, null, image)) {
+            if (!fromFallback[slot]) {
+                flippedGenerated.incrementAndGet();
+                flippedBytes.addAndGet(frameBytes(image));
+            }
+            return image;
+        }
+        return flippedFrames.get(slot);
+    }
+
+    /**
+     * Estimează memoria ocupată de pixelii unui cadru.
+     *
+     * @param frame Cadrul.
+     * @return Numărul estimat de octeți.
+     */
+    private static long frameBytes(BufferedImage frame) {
+        return (long) frame.getWidth() * frame.getHeight() * ((frame.getColorModel().getPixelSize() + 7) / 8);
+    }
+}
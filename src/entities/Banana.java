@@ -111,17 +111,15 @@ public class Banana extends Entity {
     }
 
     /**
-     * Desenează banana pe ecran.
+     * Adaugă banana în lista de desenat a actualizării curente.
      * Aplică animația de scalare pentru efectul de "respirație".
      *
-     * @param g Contextul grafic {@link Graphics} pe care se va desena.
-     * @param xLvlOffset Offset-ul orizontal al nivelului pentru scrolling.
+     * @param snapshot Lista de desenat.
      */
-    public void draw(Graphics g, int xLvlOffset) {
+    public void addTo(WorldSnapshot snapshot) {
         if (!active || image == null) {
             return;
         }
-        float drawX = hitbox.x - xLvlOffset; // Poziția X de desenare, ajustată cu offset-ul nivelului
         // Calculează dimensiunile de desenare pe baza factorului de scalare curent
         float drawWidth = originalWidth * scaleFactor;
         float drawHeight = originalHeight * scaleFactor;
@@ -129,14 +127,11 @@ public class Banana extends Entity {
         float drawOffsetX = (drawWidth - hitbox.width) / 2;
         float drawOffsetY = (drawHeight - hitbox.height) / 2;
 
-        g.drawImage(image, 
-            (int) (drawX - drawOffsetX), // Ajustează X pentru centrare
-            (int) (hitbox.y - drawOffsetY), // Ajustează Y pentru centrare (hitbox.y este deja actualizat de animația de plutire)
-            (int) drawWidth, 
-            (int) drawHeight, null);
-        
-        // Pentru depanare, se poate desena hitbox-ul
-        // drawHitbox(g, xLvlOffset); 
+        snapshot.addImage(image,
+            hitbox.x - drawOffsetX, // Ajustează X pentru centrare
+            (int) (hitbox.y - drawOffsetY), // hitbox.y este deja actualizat de animația de plutire
+            (int) drawWidth,
+            (int) drawHeight, 0, 0);
     }
     
     /**
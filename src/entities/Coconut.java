@@ -1,6 +1,5 @@
 package entities;
 
-import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 // import java.awt.geom.Rectangle2D; // Nu este folosit direct Rectangle2D, ci moștenit prin Entity
 import main.Game;
@@ -108,32 +107,27 @@ public class Coconut extends Entity {
     }
 
     /**
-     * Desenează nuca de cocos pe ecran.
+     * Adaugă nuca de cocos în lista de desenat a actualizării curente.
      * Aplică animația de scalare pentru efectul de "respirație".
      *
-     * @param g Contextul grafic {@link Graphics} pe care se va desena.
-     * @param xLvlOffset Offset-ul orizontal al nivelului pentru scrolling.
+     * @param snapshot Lista de desenat.
      */
-    public void draw(Graphics g, int xLvlOffset) {
+    public void addTo(WorldSnapshot snapshot) {
         if (!active || image == null) {
             return;
         }
-        float drawX = hitbox.x - xLvlOffset; // Poziția X de desenare
-        // Calculează dimensiunile de desenare pe baza factorului de scalare
+        // Calculează dimensiunile de desenare pe baza factorului de scalare curent
         float drawWidth = originalWidth * scaleFactor;
         float drawHeight = originalHeight * scaleFactor;
-        // Calculează offset-urile pentru a centra imaginea scalată
+        // Calculează offset-urile pentru a centra imaginea scalată pe hitbox-ul original
         float drawOffsetX = (drawWidth - hitbox.width) / 2;
         float drawOffsetY = (drawHeight - hitbox.height) / 2;
 
-        g.drawImage(image, 
-            (int) (drawX - drawOffsetX), 
+        snapshot.addImage(image,
+            hitbox.x - drawOffsetX, // Ajustează X pentru centrare
             (int) (hitbox.y - drawOffsetY), // hitbox.y este deja actualizat de animația de plutire
-            (int) drawWidth, 
-            (int) drawHeight, null);
-        
-        // Pentru depanare, se poate desena hitbox-ul
-        // drawHitbox(g, xLvlOffset); // Necesită suprascrierea metodei drawHitbox ca în Banana.java
+            (int) drawWidth,
+            (int) drawHeight, 0, 0);
     }
     
     /**
@@ -1,9 +1,10 @@
 package entities;
 
 import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
 
+import utilz.SimulationClock;
+
 // import utilz.Enemy_Animation_Rows; // Este folosit în updateAnimationTick
 
 /**
@@ -22,7 +23,7 @@ public abstract class Enemy extends Entity{
     /** Contor pentru ciclul de animație. */
     protected int aniTick;
     /** Viteza animației (numărul de tick-uri de joc per frame de animație). */
-    protected int aniSpeed = 5; // Valoare implicită, poate fi suprascrisă în subclase
+    protected int aniSpeed = SimulationClock.ticksPerFrame(24); // 24 de cadre pe secundă; poate fi suprascrisă în subclase
     /** Flag pentru a desena sau nu hitbox-ul inamicului (pentru depanare). */
     protected boolean drawHitbox = false;
     /** Indică dacă inamicul este activ în joc (viu și participă la logică/desenare). */
@@ -93,13 +94,13 @@ public abstract class Enemy extends Entity{
      * Desenează hitbox-ul inamicului dacă flag-ul {@code drawHitbox} este activ.
      * Util pentru depanare.
      *
-     * @param g Contextul grafic {@link Graphics}.
-     * @param xLvlOffset Offset-ul orizontal al nivelului pentru scrolling.
+     * @param snapshot Lista de desenat a actualizării curente.
      */
-    public void drawHitbox(Graphics g, int xLvlOffset) {
+    public void addHitboxTo(WorldSnapshot snapshot) {
         if (drawHitbox) {
-            g.setColor(Color.RED); // Culoare distinctă pentru hitbox-ul inamicilor
-            g.drawRect((int)hitbox.x - xLvlOffset, (int)hitbox.y, (int)hitbox.width, (int)hitbox.height);
+            // Culoare distinctă pentru hitbox-ul inamicilor
+            snapshot.addOutline(Color.RED, (int)hitbox.x, (int)hitbox.y, (int)hitbox.width, (int)hitbox.height,
+                    getRenderOffsetX(0), getRenderOffsetY(0));
         }
     }
 
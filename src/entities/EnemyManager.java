@@ -1,14 +1,13 @@
 package entities;
 
-import java.awt.Graphics;
 import java.awt.Color;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Random;
 
 import gamestates.Playing;
 import levels.Level;
+import levels.LevelAssetManifest;
 import entities.Coconut; // Added for Coconut spawning
 import main.Game;
 import utilz.Constants;
@@ -24,10 +23,10 @@ import utilz.Enemy_Animation_Rows; // Added import
 public class EnemyManager {
 
     private Playing playing;
-    private BufferedImage[][] naniteImgs; // For Jungla Nanites
-    private BufferedImage[][] nanitePesteraImgs; // For Pestera Nanites
-    private BufferedImage[][] goblinNoobImgs;
-    private BufferedImage[][] goblinHardImgs;
+    private AnimationSet naniteImgs; // For Jungla Nanites
+    private AnimationSet nanitePesteraImgs; // For Pestera Nanites
+    private AnimationSet goblinNoobImgs;
+    private AnimationSet goblinHardImgs;
     // private BufferedImage[][] goblinBossImgs; // GoblinBoss loads its own sprites
     // private BufferedImage[][] karagorImgs; // Karagor loads its own sprites
     private ArrayList<Nanite> nanites = new ArrayList<>();
@@ -55,55 +54,46 @@ public class EnemyManager {
      */
     public EnemyManager(Playing playing){
         this.playing = playing;
-        loadEnemyImgs();
         this.currentLevel = 1; // Start with level 1 by default
     }
 
     /**
-     * Inversează (flip) o imagine pe orizontală.
-     * @param image Imaginea care trebuie inversată.
-     * @return Imaginea inversată.
+     * Preia imaginile inamicilor (Nanites, Goblins) de care are nevoie nivelul curent, conform
+     * manifestului acestuia ({@link LevelAssetManifest}); seturile sunt deja încărcate de
+     * {@link levels.LevelManager}. Celelalte rămân {@code null}, pentru a putea fi eliberate din memorie.
+     * Boss-ii (GoblinBoss, Karagor) își încarcă propriile sprite-uri în clasele lor.
      */
-    static BufferedImage flipImage(BufferedImage image) {
-        BufferedImage flipped = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
-                flipped.setRGB(image.getWidth() - 1 - x, y, image.getRGB(x, y));
-            }
-        }
-        return flipped;
+    private void loadEnemyImgs(){
+        LevelAssetManifest manifest = playing.getLevelManager().getAssetManifest();
+        naniteImgs = loadIfNeeded(manifest, LoadSave.NANITE_JUNGLA);
+        nanitePesteraImgs = loadIfNeeded(manifest, LoadSave.NANITE_PESTERA);
+        goblinNoobImgs = loadIfNeeded(manifest, LoadSave.GOBLIN_NOOB_SPRITESHEET);
+        goblinHardImgs = loadIfNeeded(manifest, LoadSave.GOBLIN_HARD_SPRITESHEET);
     }
 
     /**
-     * Încarcă imaginile pentru toți inamicii (Nanites, Goblins).
-     * Boss-ii (GoblinBoss, Karagor) își încarcă propriile sprite-uri în clasele lor.
+     * Returnează setul de animații pentru un sprite sheet, dacă nivelul curent îl folosește.
+     * @param manifest Manifestul nivelului curent (sau {@code null}).
+     * @param sheet Numele sprite sheet-ului.
+     * @return Setul de animații sau {@code null} dacă nivelul nu are inamici de acest tip.
      */
-    private void loadEnemyImgs(){
-        naniteImgs = loadSpriteSheet(LoadSave.NANITE_JUNGLA, Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE);
-        nanitePesteraImgs = loadSpriteSheet(LoadSave.NANITE_PESTERA, Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE);
-        
-        goblinNoobImgs = loadSpriteSheet(LoadSave.GOBLIN_NOOB_SPRITESHEET, Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_WIDTH_DEFAULT, Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_HEIGHT_DEFAULT);
-        goblinHardImgs = loadSpriteSheet(LoadSave.GOBLIN_HARD_SPRITESHEET, Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_WIDTH_DEFAULT, Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_HEIGHT_DEFAULT);
-
-        // GoblinBoss instances load their own sprites, so no loading here for goblinBossImgs.
+    private AnimationSet loadIfNeeded(LevelAssetManifest manifest, String sheet) {
+        if (manifest == null || !manifest.getSpriteSheets().contains(sheet)) {
+            return null;
+        }
+        return LevelAssetManifest.loadSpriteSheet(sheet);
     }
 
     /**
-     * Încarcă un sprite sheet dintr-o cale specificată și îl împarte în frame-uri individuale.
-     * Determină numărul maxim de coloane necesar pe baza definițiilor din {@link Enemy_Animation_Rows}.
+     * Returnează setul de animații pentru un sprite sheet de inamic, construit o singură dată
+     * și partajat (vezi {@link AnimationSet}).
+     * Determină numărul de cadre al fiecărui rând pe baza definițiilor din {@link Enemy_Animation_Rows}.
      * @param path Calea către fișierul sprite sheet.
      * @param spriteWidth Lățimea unui singur sprite.
      * @param spriteHeight Înălțimea unui singur sprite.
-     * @return O matrice bidimensională de imagini (frame-uri de animație).
-     *         Returnează o matrice goală dacă încărcarea eșuează pentru a evita NullPointerException.
+     * @return Setul de animații; cadrele care nu pot fi încărcate lipsesc și nu sunt desenate.
      */
-    private BufferedImage[][] loadSpriteSheet(String path, int spriteWidth, int spriteHeight) {
-        BufferedImage img = LoadSave.getSpriteAtlas(path);
-        if (img == null) {
-            System.err.println("Failed to load sprite sheet: " + path);
-            return new BufferedImage[Enemy_Animation_Rows.values().length][0]; // Return empty array to avoid NPE
-        }
-    
+    public static AnimationSet loadSpriteSheet(String path, int spriteWidth, int spriteHeight) {
         // Determine max columns needed based on Enemy_Animation_Rows
         int maxCols = 0;
         for (Enemy_Animation_Rows animRow : Enemy_Animation_Rows.values()) {
@@ -112,28 +102,14 @@ public class EnemyManager {
             }
         }
         if (maxCols == 0) maxCols = 24; // Default if no frame counts defined, similar to Nanite
-    
-        BufferedImage[][] sprites = new BufferedImage[Enemy_Animation_Rows.values().length][maxCols];
-    
+
+        int[] framesPerRow = new int[Enemy_Animation_Rows.values().length];
         for (Enemy_Animation_Rows animRow : Enemy_Animation_Rows.values()) {
-            int rowIndex = animRow.getRowIndex();
             int frameCount = animRow.getFrameCount();
-            if (frameCount == 0) frameCount = maxCols; // Use maxCols if specific frame count is 0
-    
-            for (int i = 0; i < frameCount; i++) {
-                int x = i * spriteWidth;
-                int y = rowIndex * spriteHeight;
-                if (y + spriteHeight <= img.getHeight() && x + spriteWidth <= img.getWidth()) {
-                    sprites[rowIndex][i] = img.getSubimage(x, y, spriteWidth, spriteHeight);
-                } else {
-                    // Optional: Log if a sprite is out of bounds, or leave null
-                    // System.out.println("Sprite out of bounds for " + path + " at row " + rowIndex + ", col " + i);
-                }
-            }
+            framesPerRow[animRow.getRowIndex()] = frameCount == 0 ? maxCols : frameCount; // Use maxCols if specific frame count is 0
         }
-        return sprites;
+        return AnimationSet.get(path, spriteWidth, spriteHeight, framesPerRow);
     }
-    
 
     /**
      * Actualizează starea tuturor inamicilor activi, proiectilelor și gem-urilor.
@@ -142,6 +118,8 @@ public class EnemyManager {
      * @param playerHitbox Hitbox-ul jucătorului, pentru interacțiuni și detectare.
      */
     public void update(Rectangle2D.Float playerHitbox) {
+        savePreviousPositions();
+
         // Proximity spawning only if not all enemies are set to spawn at once for the current level
         if (!allEnemiesSpawned) {
             // Example: Level 3 might use proximity spawning, while 1 and 2 spawn all at once.
@@ -352,78 +330,86 @@ public class EnemyManager {
     }
 
     /**
-     * Desenează toți inamicii activi, proiectilele și gem-urile pe ecran.
-     * @param g Contextul grafic pentru desenare.
-     * @param xLvlOffset Decalajul pe axa X al nivelului, pentru scrolling.
+     * Salvează pozițiile inamicilor și proiectilelor de la începutul actualizării,
+     * pentru interpolarea desenării (vezi {@link Entity#getRenderOffsetX(float)}).
      */
-    public void draw(Graphics g, int xLvlOffset){
-        drawNanites(g, xLvlOffset);
-        drawKaragors(g, xLvlOffset);
-        drawGoblins(g, xLvlOffset);
-        drawGoblinBosses(g, xLvlOffset);
-        drawGolemBosses(g, xLvlOffset);
-        drawProjectiles(g, xLvlOffset);
-        drawGems(g, xLvlOffset);
+    private void savePreviousPositions() {
+        for (Nanite n : nanites) n.savePreviousPosition();
+        for (Karagor k : karagors) k.savePreviousPosition();
+        for (Goblin gob : goblins) gob.savePreviousPosition();
+        for (GoblinBoss gb : goblinBosses) gb.savePreviousPosition();
+        for (GolemBoss glb : golemBosses) glb.savePreviousPosition();
+        for (Projectile p : projectiles) p.savePreviousPosition();
+    }
+
+    /**
+     * Adaugă toți inamicii activi, proiectilele și gem-urile în lista de desenat a actualizării curente.
+     * Pentru inamici și proiectile se reține și decalajul față de poziția anterioară, pentru interpolare.
+     * @param snapshot Lista de desenat.
+     */
+    public void addTo(WorldSnapshot snapshot){
+        addNanites(snapshot);
+        addKaragors(snapshot);
+        addGoblins(snapshot);
+        addGoblinBosses(snapshot);
+        addGolemBosses(snapshot);
+        addProjectiles(snapshot);
+        addGems(snapshot);
     }   
 
     /**
-     * Desenează toți GolemBosses activi pe ecran, inclusiv bara lor de viață.
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toți GolemBosses activi, inclusiv bara lor de viață.
+     * @param snapshot Lista de desenat.
      */
-    private void drawGolemBosses(Graphics g, int xLvlOffset) {
+    private void addGolemBosses(WorldSnapshot snapshot) {
         for (GolemBoss glb : golemBosses) {
             if (glb.isAlive()) {
-                glb.render(g, xLvlOffset);
-                drawHealthBar(g, glb, xLvlOffset);
+                glb.addTo(snapshot);
+                addHealthBar(snapshot, glb);
             }
         }
     }
 
     /**
-     * Desenează toate proiectilele active pe ecran.
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toate proiectilele active.
+     * @param snapshot Lista de desenat.
      */
-    private void drawProjectiles(Graphics g, int xLvlOffset) {
+    private void addProjectiles(WorldSnapshot snapshot) {
         for (Projectile p : projectiles) {
             if (p.isActive()) {
-                p.draw(g, xLvlOffset);
+                p.addTo(snapshot);
             }
         }
     }
 
     /**
-     * Desenează toți GoblinBosses activi pe ecran, inclusiv bara lor de viață.
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toți GoblinBosses activi, inclusiv bara lor de viață.
+     * @param snapshot Lista de desenat.
      */
-    private void drawGoblinBosses(Graphics g, int xLvlOffset) {
+    private void addGoblinBosses(WorldSnapshot snapshot) {
         for (GoblinBoss gb : goblinBosses) {
             if (gb.isAlive()) {
-                gb.render(g, xLvlOffset);
-                drawHealthBar(g, gb, xLvlOffset);
+                gb.addTo(snapshot);
+                addHealthBar(snapshot, gb);
             }
         }
     }
 
     /**
-     * Desenează toate gem-urile active pe ecran.
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toate gem-urile active.
+     * @param snapshot Lista de desenat.
      */
-    private void drawGems(Graphics g, int xLvlOffset) {
+    private void addGems(WorldSnapshot snapshot) {
         for (Gem gem : gems) {
-            gem.draw(g, xLvlOffset);
+            gem.addTo(snapshot);
         }
     }
 
     /**
-     * Desenează toți Goblinii activi (Noob și Hard) pe ecran, inclusiv bara lor de viață și hitbox-ul (dacă este activat).
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toți Goblinii activi (Noob și Hard), inclusiv bara lor de viață și poziția (dacă hitbox-ul este activat).
+     * @param snapshot Lista de desenat.
      */
-    private void drawGoblins(Graphics g, int xLvlOffset) {
+    private void addGoblins(WorldSnapshot snapshot) {
         for (Goblin gob : goblins) {
             if (!gob.isActive())
                 continue;
@@ -433,17 +419,14 @@ public class EnemyManager {
             int type = gob.getEnemyType();
             int direction = gob.getDirection();
 
-            BufferedImage[][] currentGoblinSheet;
+            AnimationSet currentGoblinSheet;
             if (type == Goblin.GOBLIN_HARD) {
                 currentGoblinSheet = goblinHardImgs;
             } else {
                 currentGoblinSheet = goblinNoobImgs;
             }
             
-            if (currentGoblinSheet != null && state >= 0 && state < currentGoblinSheet.length &&
-                currentGoblinSheet[state] != null && animationIndex >= 0 &&
-                animationIndex < currentGoblinSheet[state].length &&
-                currentGoblinSheet[state][animationIndex] != null) {
+            if (currentGoblinSheet != null && currentGoblinSheet.hasFrame(state, animationIndex)) {
                
                 float xDrawOffsetGoblin = 25; // Decalaj specific pentru sprite-ul Goblinului
                 float yDrawOffsetGoblin = 20; // Decalaj specific pentru sprite-ul Goblinului
@@ -451,34 +434,28 @@ public class EnemyManager {
                 float drawWidth = Constants.EnemyConstants.GOBLIN_DRAW_WIDTH_DEFAULT * Game.SCALE;
                 float drawHeight = Constants.EnemyConstants.GOBLIN_DRAW_HEIGHT_DEFAULT * Game.SCALE;
                 
-                float xPos = gob.getHitbox().x - xDrawOffsetGoblin - xLvlOffset;
+                float xPos = gob.getHitbox().x - xDrawOffsetGoblin;
                 float yPos = gob.getHitbox().y - yDrawOffsetGoblin;
-
-                if (direction > 0) { // Orientat spre dreapta
-                    g.drawImage(currentGoblinSheet[state][animationIndex],
-                        (int)xPos, (int)yPos,
-                        (int)drawWidth, (int)drawHeight, null);
-                } else { // Orientat spre stânga (imagine inversată)
-                    g.drawImage(currentGoblinSheet[state][animationIndex],
-                        (int)(xPos + drawWidth), (int)yPos, // Ajustează x pentru flip
-                        (int)(-drawWidth), (int)drawHeight, null); // Lățime negativă pentru flip
-                }
-                drawHealthBar(g, gob, xLvlOffset);
-                if (gob.drawHitbox) { // Desenează hitbox-ul dacă este activat
-                    g.setColor(Color.WHITE);
-                    g.drawString("X:" + (int)gob.getHitbox().x + ", Y:" + (int)gob.getHitbox().y,
-                                (int)(gob.getHitbox().x - xLvlOffset), (int)gob.getHitbox().y - 5);
+                float dx = gob.getRenderOffsetX(0);
+                float dy = gob.getRenderOffsetY(0);
+
+                // Orientat spre stânga: imagine inversată
+                snapshot.addSprite(currentGoblinSheet, state, animationIndex, direction <= 0,
+                        xPos, yPos, (int)drawWidth, (int)drawHeight, dx, dy);
+                addHealthBar(snapshot, gob);
+                if (gob.drawHitbox) { // Afișează poziția dacă hitbox-ul este activat
+                    snapshot.addText("X:" + (int)gob.getHitbox().x + ", Y:" + (int)gob.getHitbox().y, Color.WHITE,
+                                gob.getHitbox().x, (int)gob.getHitbox().y - 5, dx, dy);
                 }
             }
         }
     }
 
     /**
-     * Desenează toți Nanites activi (Jungla și Pestera) pe ecran, inclusiv bara lor de viață și hitbox-ul (dacă este activat).
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toți Nanites activi (Jungla și Pestera), inclusiv bara lor de viață și poziția (dacă hitbox-ul este activat).
+     * @param snapshot Lista de desenat.
      */
-    private void drawNanites(Graphics g, int xLvlOffset){
+    private void addNanites(WorldSnapshot snapshot){
         for (Nanite n : nanites) {
             if (!n.isActive())
                 continue;
@@ -488,131 +465,101 @@ public class EnemyManager {
             int type = n.getEnemyType();
             int direction = n.getDirection();
             
-            BufferedImage[][] currentNaniteSheet = naniteImgs; // Implicit Nanite de Junglă
+            AnimationSet currentNaniteSheet = naniteImgs; // Implicit Nanite de Junglă
             if (type == Nanite.NANITE_PESTERA) {
                 currentNaniteSheet = nanitePesteraImgs;
             }
 
-            if (currentNaniteSheet != null && state < currentNaniteSheet.length &&
-                animationIndex < currentNaniteSheet[state].length &&
-                currentNaniteSheet[state][animationIndex] != null) {
+            if (currentNaniteSheet != null && currentNaniteSheet.hasFrame(state, animationIndex)) {
                
-                float xPos = n.getHitbox().x - 25 - xLvlOffset; // Decalaj pentru sprite-ul Nanite
+                float xPos = n.getHitbox().x - 25; // Decalaj pentru sprite-ul Nanite
                 float yPos = n.getHitbox().y - 20; // Decalaj pentru sprite-ul Nanite
+                float dx = n.getRenderOffsetX(0);
+                float dy = n.getRenderOffsetY(0);
                 
                 float drawScaleFactor = 1.2f; // Factor de scalare specific pentru Nanite
                 int scaledWidth = (int)(Constants.EnemyConstants.ENEMY_SIZE * drawScaleFactor);
                 int scaledHeight = (int)(Constants.EnemyConstants.ENEMY_SIZE * drawScaleFactor);
                 
-                if (direction > 0) { // Orientat spre dreapta
-                    g.drawImage(currentNaniteSheet[state][animationIndex],
-                        (int)xPos, (int)yPos,
-                        scaledWidth, scaledHeight, null);
-                } else { // Orientat spre stânga (imagine inversată)
-                    g.drawImage(currentNaniteSheet[state][animationIndex],
-                        (int)xPos + scaledWidth, (int)yPos, // Ajustează x pentru flip
-                        -scaledWidth, scaledHeight, null); // Lățime negativă pentru flip
-                }
-                drawHealthBar(g, n, xLvlOffset);
-                if (n.drawHitbox) { // Desenează hitbox-ul dacă este activat
-                    g.setColor(Color.WHITE);
-                    g.drawString("X:" + (int)n.getHitbox().x + ", Y:" + (int)n.getHitbox().y,
-                                (int)(n.getHitbox().x - xLvlOffset), (int)n.getHitbox().y - 5);
+                // Orientat spre stânga: imagine inversată
+                snapshot.addSprite(currentNaniteSheet, state, animationIndex, direction <= 0,
+                        xPos, yPos, scaledWidth, scaledHeight, dx, dy);
+                addHealthBar(snapshot, n);
+                if (n.drawHitbox) { // Afișează poziția dacă hitbox-ul este activat
+                    snapshot.addText("X:" + (int)n.getHitbox().x + ", Y:" + (int)n.getHitbox().y, Color.WHITE,
+                                n.getHitbox().x, (int)n.getHitbox().y - 5, dx, dy);
                 }
             }
         }
     }
     
     /**
-     * Desenează toți Karagors activi pe ecran, inclusiv bara lor de viață.
-     * @param g Contextul grafic.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * Adaugă toți Karagors activi, inclusiv bara lor de viață.
+     * @param snapshot Lista de desenat.
      */
-    private void drawKaragors(Graphics g, int xLvlOffset) {
+    private void addKaragors(WorldSnapshot snapshot) {
         for (Karagor k : karagors) {
             if (k.isAlive()) {
-                k.render(g, xLvlOffset);
-                drawHealthBar(g, k, xLvlOffset);
+                k.addTo(snapshot);
+                addHealthBar(snapshot, k);
             }
         }
     }
     
     /**
-     * Desenează bara de viață pentru un Karagor.
-     * @param g Contextul grafic.
+     * Adaugă bara de viață pentru un Karagor.
+     * @param snapshot Lista de desenat.
      * @param karagor Karagor-ul pentru care se desenează bara de viață.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
      */
-    private void drawHealthBar(Graphics g, Karagor karagor, int xLvlOffset) {
+    private void addHealthBar(WorldSnapshot snapshot, Karagor karagor) {
         if (karagor.getCurrentHealth() < karagor.getMaxHealth()) {
             int barWidth = 30;
             int barHeight = 5;
-            int barX = (int)(karagor.getHitbox().x - xLvlOffset);
-            int barY = (int)karagor.getHitbox().y - 10; // Deasupra hitbox-ului
-            
-            g.setColor(Color.BLACK); // Contur
-            g.fillRect(barX - 1, barY - 1, barWidth + 2, barHeight + 2);
-            g.setColor(Color.RED); // Fundal roșu (viață pierdută)
-            g.fillRect(barX, barY, barWidth, barHeight);
-            g.setColor(Color.GREEN); // Viață rămasă
             int currentWidth = (int)((karagor.getCurrentHealth() / (float)karagor.getMaxHealth()) * barWidth);
-            g.fillRect(barX, barY, currentWidth, barHeight);
+            // Deasupra hitbox-ului
+            snapshot.addHealthBar(karagor.getHitbox().x, (int)karagor.getHitbox().y - 10, barWidth, barHeight, currentWidth, 1,
+                    karagor.getRenderOffsetX(0), karagor.getRenderOffsetY(0));
         }
     }
     
     /**
-     * Desenează bara de viață pentru un Nanite.
-     * @param g Contextul grafic.
+     * Adaugă bara de viață pentru un Nanite.
+     * @param snapshot Lista de desenat.
      * @param nanite Nanite-ul pentru care se desenează bara de viață.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
      */
-    private void drawHealthBar(Graphics g, Nanite nanite, int xLvlOffset) {
+    private void addHealthBar(WorldSnapshot snapshot, Nanite nanite) {
         if (nanite.getHealth() < nanite.getMaxHealth()) {
             int barWidth = 30;
             int barHeight = 5;
-            int barX = (int)(nanite.getHitbox().x - xLvlOffset);
-            int barY = (int)nanite.getHitbox().y - 10; // Deasupra hitbox-ului
-            
-            g.setColor(Color.BLACK); // Contur
-            g.fillRect(barX - 1, barY - 1, barWidth + 2, barHeight + 2);
-            g.setColor(Color.RED); // Fundal roșu
-            g.fillRect(barX, barY, barWidth, barHeight);
-            g.setColor(Color.GREEN); // Viață rămasă
             int currentWidth = (int)((nanite.getHealth() / (float)nanite.getMaxHealth()) * barWidth);
-            g.fillRect(barX, barY, currentWidth, barHeight);
+            // Deasupra hitbox-ului
+            snapshot.addHealthBar(nanite.getHitbox().x, (int)nanite.getHitbox().y - 10, barWidth, barHeight, currentWidth, 1,
+                    nanite.getRenderOffsetX(0), nanite.getRenderOffsetY(0));
         }
     }
 
     /**
-     * Desenează bara de viață pentru un Goblin.
-     * @param g Contextul grafic.
+     * Adaugă bara de viață pentru un Goblin.
+     * @param snapshot Lista de desenat.
      * @param goblin Goblin-ul pentru care se desenează bara de viață.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
      */
-    private void drawHealthBar(Graphics g, Goblin goblin, int xLvlOffset) {
+    private void addHealthBar(WorldSnapshot snapshot, Goblin goblin) {
         if (goblin.getHealth() < goblin.getMaxHealth()) {
             int barWidth = 30;
             int barHeight = 5;
-            int barX = (int)(goblin.getHitbox().x - xLvlOffset);
-            int barY = (int)goblin.getHitbox().y - 10; // Deasupra hitbox-ului
-            
-            g.setColor(Color.BLACK); // Contur
-            g.fillRect(barX - 1, barY - 1, barWidth + 2, barHeight + 2);
-            g.setColor(Color.RED); // Fundal roșu
-            g.fillRect(barX, barY, barWidth, barHeight);
-            g.setColor(Color.GREEN); // Viață rămasă
             int currentWidth = (int)((goblin.getHealth() / (float)goblin.getMaxHealth()) * barWidth);
-            g.fillRect(barX, barY, currentWidth, barHeight);
+            // Deasupra hitbox-ului
+            snapshot.addHealthBar(goblin.getHitbox().x, (int)goblin.getHitbox().y - 10, barWidth, barHeight, currentWidth, 1,
+                    goblin.getRenderOffsetX(0), goblin.getRenderOffsetY(0));
         }
     }
 
     /**
-     * Desenează bara de viață pentru un GoblinBoss.
-     * @param g Contextul grafic.
+     * Adaugă bara de viață pentru un GoblinBoss.
+     * @param snapshot Lista de desenat.
      * @param boss GoblinBoss-ul pentru care se desenează bara de viață.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
      */
-    private void drawHealthBar(Graphics g, GoblinBoss boss, int xLvlOffset) {
+    private void addHealthBar(WorldSnapshot snapshot, GoblinBoss boss) {
         if (boss.isAlive()) { // Se afișează mereu pentru boss, chiar și cu viață plină, pentru vizibilitate
             int baseBarWidth = 50;
             int baseBarHeight = 7;
@@ -628,40 +575,31 @@ public class EnemyManager {
             float spriteVisualTopY = boss.getHitbox().y - goblinBossYDrawOffset;
 
             // Poziționează bara deasupra vârfului vizual al sprite-ului
-            int barX = (int)(boss.getHitbox().x + boss.getHitbox().width / 2 - scaledBarWidth / 2 - xLvlOffset);
+            float barX = boss.getHitbox().x + boss.getHitbox().width / 2 - scaledBarWidth / 2;
             int barY = (int)(spriteVisualTopY - scaledBarHeight - scaledPadding);
 
-            g.setColor(Color.BLACK); // Contur
-            g.fillRect(barX - (int)(1 * Game.SCALE), barY - (int)(1 * Game.SCALE), scaledBarWidth + (int)(2 * Game.SCALE), scaledBarHeight + (int)(2 * Game.SCALE));
-            g.setColor(Color.RED); // Fundal roșu
-            g.fillRect(barX, barY, scaledBarWidth, scaledBarHeight);
-            g.setColor(Color.GREEN); // Viață rămasă
             int currentHealthWidth = (int)(((float)boss.getCurrentHealth() / boss.getMaxHealth()) * scaledBarWidth);
-            g.fillRect(barX, barY, currentHealthWidth, scaledBarHeight);
+            snapshot.addHealthBar(barX, barY, scaledBarWidth, scaledBarHeight, currentHealthWidth, (int)(1 * Game.SCALE),
+                    boss.getRenderOffsetX(0), boss.getRenderOffsetY(0));
         }
     }
     
     /**
-     * Desenează bara de viață pentru un GolemBoss.
-     * @param g Contextul grafic.
+     * Adaugă bara de viață pentru un GolemBoss.
+     * @param snapshot Lista de desenat.
      * @param boss GolemBoss-ul pentru care se desenează bara de viață.
-     * @param xLvlOffset Decalajul nivelului pe axa X.
      */
-    private void drawHealthBar(Graphics g, GolemBoss boss, int xLvlOffset) {
+    private void addHealthBar(WorldSnapshot snapshot, GolemBoss boss) {
         if (boss.isAlive() && boss.getCurrentHealth() < boss.getMaxHealth()) { // Afișează doar dacă a primit daune
             int barWidth = 60; // Lățime mai mare pentru boss
             int barHeight = 8; // Înălțime mai mare
             // Poziționare relativă la hitbox-ul boss-ului
-            int barX = (int)(boss.getHitbox().x + boss.getHitbox().width / 2 - barWidth / 2 - xLvlOffset);
+            float barX = boss.getHitbox().x + boss.getHitbox().width / 2 - barWidth / 2;
             int barY = (int)(boss.getHitbox().y - barHeight - 7); // Puțin mai sus
 
-            g.setColor(Color.BLACK); // Contur
-            g.fillRect(barX - 1, barY - 1, barWidth + 2, barHeight + 2);
-            g.setColor(Color.RED); // Fundal roșu
-            g.fillRect(barX, barY, barWidth, barHeight);
-            g.setColor(Color.GREEN); // Viață rămasă
             int currentHealthWidth = (int)(((float)boss.getCurrentHealth() / boss.getMaxHealth()) * barWidth);
-            g.fillRect(barX, barY, currentHealthWidth, barHeight); // Corectat: folosește barHeight
+            snapshot.addHealthBar(barX, barY, barWidth, barHeight, currentHealthWidth, 1,
+                    boss.getRenderOffsetX(0), boss.getRenderOffsetY(0));
         }
     }
 
@@ -687,6 +625,7 @@ public class EnemyManager {
         spawnPoints.clear();
         allEnemiesSpawned = false; // Resetează flag-ul de spawn
         
+        loadEnemyImgs(); // Doar sprite sheet-urile inamicilor din acest nivel
         scanLevelForSpawnPoints(); // Identifică noile puncte de spawn
         
         // Spawnează toți inamicii imediat pentru nivelurile 1, 2 și 3
@@ -707,15 +646,6 @@ public class EnemyManager {
         spawnPoints.clear(); // Asigură-te că lista este goală înainte de scanare
         System.out.println("Scanez nivelul " + currentLevel + " pentru inamici...");
         
-        // Codurile numerice pentru diferitele tipuri de inamici din datele nivelului
-        final int NANITE_CODE = -2;
-        final int KARAGOR_CODE = -3;
-        final int GOBLIN_NOOB_CODE = -4;
-        final int GOBLIN_HARD_CODE = -5;
-        final int GOBLIN_BOSS_CODE = -6;
-        final int NANITE_PESTERA_CODE = -7;
-        final int GOLEM_BOSS_CODE = -9;
-
         int enemyCount = 0;
         
         if (levelData == null) {
@@ -727,11 +657,8 @@ public class EnemyManager {
         for (int j = 0; j < levelData.length; j++) { // j = rând (coordonata Y)
             for (int i = 0; i < levelData[j].length; i++) { // i = coloană (coordonata X)
                 int enemyCode = levelData[j][i];
-                // Verifică dacă valoarea tile-ului corespunde unui cod de inamic
-                if (enemyCode == NANITE_CODE || enemyCode == KARAGOR_CODE ||
-                    enemyCode == GOBLIN_NOOB_CODE || enemyCode == GOBLIN_HARD_CODE ||
-                    enemyCode == GOBLIN_BOSS_CODE || enemyCode == NANITE_PESTERA_CODE ||
-                    enemyCode == GOLEM_BOSS_CODE) {
+                // Verifică dacă valoarea tile-ului corespunde unui cod de inamic (vezi LevelAssetManifest)
+                if (LevelAssetManifest.isEnemyCode(enemyCode)) {
                     // Calculează coordonatele de spawn în pixeli
                     float x = i * Game.TILES_SIZE;
                     float y = j * Game.TILES_SIZE;
@@ -746,67 +673,51 @@ public class EnemyManager {
     /**
      * Spawnează un inamic la o poziție specificată, pe baza codului său.
      * Adaugă inamicul nou creat la lista corespunzătoare și îi setează datele nivelului.
+     * Inamicii care nu apar în nivelul curent (vezi {@link LevelAssetManifest#spawnsInLevel}) sunt ignorați.
      * @param x Coordonata X a punctului de spawn.
      * @param y Coordonata Y a punctului de spawn.
      * @param enemyCode Codul numeric care identifică tipul de inamic.
      */
     private void spawnEnemy(float x, float y, int enemyCode) {
+        // Nivelul în care apare fiecare inamic este stabilit de același tabel care îi încarcă spritesheet-ul
+        if (!LevelAssetManifest.spawnsInLevel(enemyCode, currentLevel)) {
+            return;
+        }
         switch (enemyCode) {
             case -2: // Nanite Jungla
-                    if(currentLevel == 1) // Spawnează doar în nivelul 1
-                    {
-                        Nanite newNanite = new Nanite(x, y, Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE, Nanite.NANITE_JUNGLA);
-                        newNanite.setLevelData(levelData);
-                        nanites.add(newNanite);
-                    }
+                Nanite newNanite = new Nanite(x, y, Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE, Nanite.NANITE_JUNGLA);
+                newNanite.setLevelData(levelData);
+                nanites.add(newNanite);
                 break;
             case -7: // Nanite Pestera
-                if (currentLevel == 3) // Spawnează doar în nivelul 3
-                {
-                    Nanite newNanitePestera = new Nanite(x, y, Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE, Nanite.NANITE_PESTERA);
-                    newNanitePestera.setLevelData(levelData);
-                    nanites.add(newNanitePestera);
-                }
+                Nanite newNanitePestera = new Nanite(x, y, Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE, Nanite.NANITE_PESTERA);
+                newNanitePestera.setLevelData(levelData);
+                nanites.add(newNanitePestera);
                 break;
             case -3: // Karagor
-                if(currentLevel == 1) // Spawnează doar în nivelul 1
-                {
-                    Karagor newKaragor = new Karagor(x, y, (int)(272*Game.SCALE), (int)(183*Game.SCALE), true);
-                    newKaragor.setLevelData(levelData);
-                    karagors.add(newKaragor);
-                }
+                Karagor newKaragor = new Karagor(x, y, (int)(272*Game.SCALE), (int)(183*Game.SCALE), true);
+                newKaragor.setLevelData(levelData);
+                karagors.add(newKaragor);
                 break;
             case -4: // Goblin Noob
-                if(currentLevel == 2) // Spawnează doar în nivelul 2
-                {
-                    Goblin newGoblinNoob = new Goblin(x, y, Constants.EnemyConstants.GOBLIN_WIDTH, Constants.EnemyConstants.GOBLIN_HEIGHT, Goblin.GOBLIN_NOOB);
-                    newGoblinNoob.setLevelData(levelData);
-                    goblins.add(newGoblinNoob);
-                }
+                Goblin newGoblinNoob = new Goblin(x, y, Constants.EnemyConstants.GOBLIN_WIDTH, Constants.EnemyConstants.GOBLIN_HEIGHT, Goblin.GOBLIN_NOOB);
+                newGoblinNoob.setLevelData(levelData);
+                goblins.add(newGoblinNoob);
                 break;
             case -5: // Goblin Hard
-                if(currentLevel == 3) // Spawnează doar în nivelul 3
-                {
-                    Goblin newGoblinHard = new Goblin(x, y, Constants.EnemyConstants.GOBLIN_WIDTH, Constants.EnemyConstants.GOBLIN_HEIGHT, Goblin.GOBLIN_HARD);
-                    newGoblinHard.setLevelData(levelData);
-                    goblins.add(newGoblinHard);
-                }
+                Goblin newGoblinHard = new Goblin(x, y, Constants.EnemyConstants.GOBLIN_WIDTH, Constants.EnemyConstants.GOBLIN_HEIGHT, Goblin.GOBLIN_HARD);
+                newGoblinHard.setLevelData(levelData);
+                goblins.add(newGoblinHard);
                 break;
             case -6: // Goblin Boss
-                 if(currentLevel == 2) // Spawnează doar în nivelul 2
-                 {
-                    GoblinBoss newGoblinBoss = new GoblinBoss(x, y, this.playing);
-                    newGoblinBoss.setLevelData(this.levelData);
-                    goblinBosses.add(newGoblinBoss);
-                 }
+                GoblinBoss newGoblinBoss = new GoblinBoss(x, y, this.playing);
+                newGoblinBoss.setLevelData(this.levelData);
+                goblinBosses.add(newGoblinBoss);
                 break;
             case -9: // Golem Boss
-                if (currentLevel == 3) // Spawnează doar în nivelul 3
-                {
-                    GolemBoss newGolemBoss = new GolemBoss(x, y, this.playing);
-                    newGolemBoss.setLevelData(this.levelData);
-                    golemBosses.add(newGolemBoss);
-                }
+                GolemBoss newGolemBoss = new GolemBoss(x, y, this.playing);
+                newGolemBoss.setLevelData(this.levelData);
+                golemBosses.add(newGolemBoss);
                 break;
             default:
                 System.err.println("Unknown enemy code in spawnEnemy: " + enemyCode);
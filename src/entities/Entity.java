@@ -21,6 +21,11 @@ public abstract class Entity {
     protected int height;
     /** Dreptunghiul de coliziune (hitbox) al entității. */
     protected Rectangle2D.Float hitbox;
+
+    /** Poziția de desenare de la începutul actualizării curente, folosită la interpolarea desenării. */
+    private float previousRenderX, previousRenderY;
+    /** Dacă poziția anterioară a fost salvată (entitățile noi sunt desenate direct la poziția curentă). */
+    private boolean hasPreviousPosition;
     
     /**
      * Constructor pentru clasa Entity.
@@ -55,6 +60,59 @@ public abstract class Entity {
     //     hitbox.y = (int)y;
     // }
 
+    /**
+     * Returnează punctul după care este desenată entitatea. Implicit este colțul hitbox-ului;
+     * subclasele care desenează după alte coordonate (de ex. {@code x} și {@code y}) îl suprascriu.
+     *
+     * @return Coordonata x a punctului de desenare.
+     */
+    protected float getRenderAnchorX() {
+        return hitbox.x;
+    }
+
+    /**
+     * Returnează coordonata y a punctului după care este desenată entitatea.
+     *
+     * @return Coordonata y a punctului de desenare.
+     * @see #getRenderAnchorX()
+     */
+    protected float getRenderAnchorY() {
+        return hitbox.y;
+    }
+
+    /**
+     * Salvează poziția curentă ca poziție anterioară. Se apelează la începutul fiecărei actualizări
+     * și după orice teleportare (pentru ca desenarea să nu interpoleze între cele două locuri).
+     */
+    public void savePreviousPosition() {
+        if (hitbox == null) return;
+        previousRenderX = getRenderAnchorX();
+        previousRenderY = getRenderAnchorY();
+        hasPreviousPosition = true;
+    }
+
+    /**
+     * Returnează decalajul pe axa X care, adăugat la poziția curentă, dă poziția interpolată
+     * între actualizarea anterioară și cea curentă.
+     *
+     * @param alpha Fracțiunea scursă din intervalul dintre două actualizări (între 0 și 1).
+     * @return Decalajul de desenare pe axa X.
+     */
+    public float getRenderOffsetX(float alpha) {
+        return hasPreviousPosition ? (previousRenderX - getRenderAnchorX()) * (1 - alpha) : 0;
+    }
+
+    /**
+     * Returnează decalajul pe axa Y al poziției interpolate.
+     *
+     * @param alpha Fracțiunea scursă din intervalul dintre două actualizări (între 0 și 1).
+     * @return Decalajul de desenare pe axa Y.
+     * @see #getRenderOffsetX(float)
+     */
+    public float getRenderOffsetY(float alpha) {
+        return hasPreviousPosition ? (previousRenderY - getRenderAnchorY()) * (1 - alpha) : 0;
+    }
+
     /**
      * Returnează hitbox-ul entității.
      *
@@ -1,6 +1,5 @@
 package entities;
 
-import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 import java.awt.geom.Rectangle2D;
 import main.Game;
@@ -138,24 +137,21 @@ public class Gem {
     }
 
     /**
-     * Desenează gem-ul pe ecran.
+     * Adaugă gem-ul în lista de desenat a actualizării curente.
      * Imaginea este desenată la dimensiunile și poziția hitbox-ului curent (care include efectele de animație).
      *
-     * @param g Contextul grafic {@link Graphics} pe care se va desena.
-     * @param xLvlOffset Offset-ul orizontal al nivelului pentru scrolling.
+     * @param snapshot Lista de desenat.
      */
-    public void draw(Graphics g, int xLvlOffset) {
+    public void addTo(WorldSnapshot snapshot) {
         if (!active || image == null) {
             return;
         }
-        // Desenează imaginea la coordonatele și dimensiunile hitbox-ului actualizat
+        // Imaginea la coordonatele și dimensiunile hitbox-ului actualizat
         // Hitbox-ul este deja ajustat pentru animația de plutire și scalare
-        float drawX = hitbox.x - xLvlOffset;
-        g.drawImage(image, (int) drawX, (int) hitbox.y, (int) hitbox.width, (int) hitbox.height, null);
+        snapshot.addImage(image, hitbox.x, (int) hitbox.y, (int) hitbox.width, (int) hitbox.height, 0, 0);
         
         // Pentru depanare, se poate desena hitbox-ul
-        // g.setColor(Color.CYAN);
-        // g.drawRect((int) drawX, (int) hitbox.y, (int) hitbox.width, (int) hitbox.height);
+        // snapshot.addOutline(Color.CYAN, hitbox.x, hitbox.y, (int) hitbox.width, (int) hitbox.height, 0, 0);
     }
 
     /**
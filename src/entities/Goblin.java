@@ -5,6 +5,7 @@ import java.awt.geom.Rectangle2D;
 import main.Game;
 import utilz.HelpMethods;
 import utilz.Enemy_Animation_Rows;
+import utilz.SimulationClock;
 import utilz.Constants; // Added import
 
 /**
@@ -49,8 +50,8 @@ public class Goblin extends Enemy {
     private int ticksInState = 0;
     /** Cooldown-ul dintre atacuri. */
     private int attackCooldown = 0;
-    /** Cooldown-ul maxim dintre atacuri (aproximativ 2 secunde la 60 FPS). */
-    private static final int ATTACK_COOLDOWN_MAX = 120;
+    /** Cooldown-ul maxim dintre atacuri (2 secunde). */
+    private static final int ATTACK_COOLDOWN_MAX = SimulationClock.ticks(2f);
     /** Indicator dacă lovitura de atac a fost verificată în animația curentă. */
     private boolean attackChecked = false;
     /** Indicator dacă jucătorul a fost detectat de Goblin. */
@@ -91,8 +92,8 @@ public class Goblin extends Enemy {
     private Rectangle2D.Float attackBox;
     /** Cooldown-ul pentru daunele provocate prin atingerea jucătorului. */
     private int playerTouchCooldown = 0;
-    /** Cooldown-ul dintre daunele provocate prin atingere (în frame-uri). */
-    private int touchDamageCooldown = 60;
+    /** Cooldown-ul dintre daunele provocate prin atingere (în actualizări). */
+    private int touchDamageCooldown = SimulationClock.ticks(0.5f);
      
     // Patrolling
     /** Distanța pe care Goblinul o patrulează în fiecare direcție de la punctul de start. */
@@ -326,7 +327,7 @@ public class Goblin extends Enemy {
         // State behavior
         switch (getEnemyState()) {
             case IDLE:
-                if (ticksInState > 60) {
+                if (ticksInState > SimulationClock.ticks(0.5f)) {
                     ticksInState = 0;
                     // Start moving if not already moving
                     setState(RUNNING);
@@ -361,14 +362,14 @@ public class Goblin extends Enemy {
             case ATTACK:
                 isMoving = false;
                 // Check for attack hit once during animation
-                if (!attackChecked && ticksInState > 6) {
+                if (!attackChecked && ticksInState > SimulationClock.ticks(0.05f)) {
                     checkAttackHit();
                     attackChecked = true;
                     attackCooldown = ATTACK_COOLDOWN_MAX; // Set cooldown after attack
                 }
                 
                 // Return to previous state after attack animation
-                if (ticksInState >= Enemy_Animation_Rows.values()[ATTACK].getFrameCount() * 5) {
+                if (ticksInState >= Enemy_Animation_Rows.values()[ATTACK].getFrameCount() * aniSpeed) {
                     attackChecked = false;
                     setState(IDLE);
                 }
@@ -376,7 +377,7 @@ public class Goblin extends Enemy {
                 
             case HURT:
                 isMoving = false;
-                if (ticksInState >= Enemy_Animation_Rows.values()[HURT].getFrameCount() * 5) {
+                if (ticksInState >= Enemy_Animation_Rows.values()[HURT].getFrameCount() * aniSpeed) {
                     if (health <= 0) {
                         setState(DYING);
                     } else {
@@ -387,7 +388,7 @@ public class Goblin extends Enemy {
                 
             case DYING:
                 isMoving = false;
-                if (ticksInState >= Enemy_Animation_Rows.values()[DYING].getFrameCount() * 5) {
+                if (ticksInState >= Enemy_Animation_Rows.values()[DYING].getFrameCount() * aniSpeed) {
                     isActive = false;
                 }
                 break;
@@ -1,14 +1,13 @@
 package entities;
 
-import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
 
 import main.Game;
 import utilz.Constants;
 import utilz.Enemy_Animation_Rows;
 import utilz.LoadSave;
 import utilz.HelpMethods;
+import utilz.SimulationClock;
 import gamestates.Playing;
 
 /**
@@ -19,10 +18,8 @@ import gamestates.Playing;
  */
 public class GoblinBoss extends Enemy {
 
-    /** Matrice bidimensională pentru stocarea animațiilor normale ale boss-ului. */
-    private BufferedImage[][] animations;
-    /** Matrice bidimensională pentru stocarea animațiilor inversate (flipped) ale boss-ului. */
-    private BufferedImage[][] flippedAnimations;
+    /** Animațiile boss-ului (normale și inversate), partajate de toate instanțele. */
+    private AnimationSet animations;
 
     /** Sănătatea maximă a Goblin Boss-ului. */
     private int maxHealthBoss = 300;
@@ -77,15 +74,17 @@ public class GoblinBoss extends Enemy {
     /** Cronometru pentru cooldown-ul dintre acțiuni. */
     private int actionCooldown = 0;
     /** Durata minimă a stării IDLE. */
-    private final int IDLE_DURATION_MIN = 60;
+    private final int IDLE_DURATION_MIN = SimulationClock.ticks(0.5f);
     /** Durata maximă a stării IDLE. */
-    private final int IDLE_DURATION_MAX = 120;
+    private final int IDLE_DURATION_MAX = SimulationClock.ticks(1f);
+    /** Pauza din starea DETECTED înainte de alegerea următoarei acțiuni. */
+    private final int DECISION_DELAY = SimulationClock.ticks(0.25f);
     /** Durata pregătirii unui atac. */
-    private final int PREPARE_ATTACK_DURATION = 45;
+    private final int PREPARE_ATTACK_DURATION = SimulationClock.ticks(0.375f);
     /** Cooldown-ul maxim după un atac. */
-    private final int ATTACK_COOLDOWN_MAX = 90;
+    private final int ATTACK_COOLDOWN_MAX = SimulationClock.ticks(0.75f);
     /** Cooldown-ul maxim după o repoziționare. */
-    private final int REPOSITION_COOLDOWN_MAX = 75;
+    private final int REPOSITION_COOLDOWN_MAX = SimulationClock.ticks(0.625f);
 
     /** Indicator dacă Goblin Boss-ul execută o acțiune în prezent. */
     private boolean isPerformingAction = false;
@@ -170,50 +169,29 @@ public class GoblinBoss extends Enemy {
 
     /**
      * Încarcă animațiile pentru Goblin Boss din sprite sheet.
-     * Sprite sheet-ul este încărcat folosind clasa LoadSave.
-     * Animațiile sunt stocate în matricile `animations` și `flippedAnimations`.
+     * Setul de animații este construit o singură dată și partajat de toate instanțele
+     * (vezi {@link AnimationSet}), deci crearea unui nou boss nu mai decodează imagini.
      */
     private void loadAnimations() {
-        BufferedImage sheet = LoadSave.getSpriteAtlas(LoadSave.GOBLIN_BOSS_SPRITESHEET);
-        if (sheet == null) {
-            System.err.println("Failed to load Goblin Boss sprite sheet!");
-            return;
-        }
-        int spriteSheetCellWidth = Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_WIDTH_DEFAULT;
-        int spriteSheetCellHeight = Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_HEIGHT_DEFAULT;
-        animations = new BufferedImage[Enemy_Animation_Rows.values().length][];
-        flippedAnimations = new BufferedImage[Enemy_Animation_Rows.values().length][];
-        for (Enemy_Animation_Rows animRow : Enemy_Animation_Rows.values()) {
-            int rowIndex = animRow.getRowIndex();
-            int frameCount = animRow.getFrameCount();
-            if (rowIndex >= Enemy_Animation_Rows.values().length || frameCount == 0) continue; // Skip if no frames or invalid index
-            animations[rowIndex] = new BufferedImage[frameCount];
-            flippedAnimations[rowIndex] = new BufferedImage[frameCount];
-            for (int i = 0; i < frameCount; i++) {
-                int ex = i * spriteSheetCellWidth;
-                int ey = rowIndex * spriteSheetCellHeight;
-                if (ey + spriteSheetCellHeight <= sheet.getHeight() && ex + spriteSheetCellWidth <= sheet.getWidth()) {
-                    animations[rowIndex][i] = sheet.getSubimage(ex, ey, spriteSheetCellWidth, spriteSheetCellHeight);
-                    flippedAnimations[rowIndex][i] = flipImage(animations[rowIndex][i]);
-                }
-            }
-        }
+        animations = getAnimations();
     }
 
     /**
-     * Inversează (flip) o imagine pe orizontală.
-     * @param image Imaginea care trebuie inversată.
-     * @return Imaginea inversată sau null dacă imaginea de intrare este null.
+     * Returnează setul de animații partajat al Goblin Boss-ului, construindu-l la prima cerere.
+     * Folosită și de {@link levels.LevelAssetManifest} pentru a încărca setul odată cu nivelul.
+     * @return Setul de animații.
      */
-    private static BufferedImage flipImage(BufferedImage image) {
-        if (image == null) return null;
-        BufferedImage flipped = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
-                flipped.setRGB(image.getWidth() - 1 - x, y, image.getRGB(x, y));
+    public static AnimationSet getAnimations() {
+        int[] framesPerRow = new int[Enemy_Animation_Rows.values().length];
+        for (Enemy_Animation_Rows animRow : Enemy_Animation_Rows.values()) {
+            if (animRow.getRowIndex() < framesPerRow.length) {
+                framesPerRow[animRow.getRowIndex()] = animRow.getFrameCount();
             }
         }
-        return flipped;
+        return AnimationSet.get(LoadSave.GOBLIN_BOSS_SPRITESHEET,
+                Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_WIDTH_DEFAULT,
+                Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_HEIGHT_DEFAULT,
+                framesPerRow);
     }
 
     /**
@@ -303,7 +281,7 @@ public class GoblinBoss extends Enemy {
                     actionTimer = 0;
                     break;
                 }
-                if (actionTimer > 30) { // Short delay before deciding action
+                if (actionTimer > DECISION_DELAY) { // Short delay before deciding action
                      decideNextAction(player); // Decide whether to chase, attack, or reposition
                 }
                 break;
@@ -710,28 +688,17 @@ public class GoblinBoss extends Enemy {
     }
 
     /**
-     * Randează Goblin Boss-ul pe ecran.
-     * Desenează animația curentă la poziția corectă, luând în considerare decalajul nivelului.
-     * Poate desena și hitbox-ul dacă `drawHitbox` este true.
-     * @param g Contextul grafic pentru desenare.
-     * @param xLvlOffset Decalajul pe axa X al nivelului, pentru scrolling.
+     * Adaugă Goblin Boss-ul în lista de desenat a actualizării curente: animația curentă
+     * și hitbox-ul, dacă `drawHitbox` este true.
+     * @param snapshot Lista de desenat.
      */
-    public void render(Graphics g, int xLvlOffset) {
+    public void addTo(WorldSnapshot snapshot) {
         if (!isActive) return; // Don't render if not active (e.g., after dying animation)
-        if (animations == null || enemyState < 0 || enemyState >= animations.length || animations[enemyState] == null) {
-            //System.err.println("GoblinBoss: Animation data missing or invalid state for rendering. State: " + enemyState);
-            return; // Safety check
-        }
-        BufferedImage[] currentAnimationSet = (this.direction == Enemy_Animation_Rows.Directions.LEFT) ? flippedAnimations[enemyState] : animations[enemyState];
-        if (currentAnimationSet != null && aniIndex >= 0 && aniIndex < currentAnimationSet.length && currentAnimationSet[aniIndex] != null) {
-            float drawX = hitbox.x - xDrawOffset - xLvlOffset;
-            float drawY = hitbox.y - yDrawOffset;
-            g.drawImage(currentAnimationSet[aniIndex], (int)drawX, (int)drawY, DRAW_WIDTH, DRAW_HEIGHT, null);
-            if (drawHitbox) {
-                drawHitbox(g, xLvlOffset); // Method from Enemy class
-            }
-        } else {
-            //System.err.println("GoblinBoss: Current animation frame is null or index out of bounds. AniIndex: " + aniIndex + ", State: " + enemyState);
+        boolean flipped = this.direction == Enemy_Animation_Rows.Directions.LEFT;
+        if (animations.hasFrame(enemyState, aniIndex)) {
+            snapshot.addSprite(animations, enemyState, aniIndex, flipped, hitbox.x - xDrawOffset, hitbox.y - yDrawOffset,
+                    DRAW_WIDTH, DRAW_HEIGHT, getRenderOffsetX(0), getRenderOffsetY(0));
+            addHitboxTo(snapshot); // Method from Enemy class
         }
     }
     
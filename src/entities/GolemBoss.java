@@ -1,8 +1,6 @@
 package entities;
 
-import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
 import java.awt.Color; // Added import for Color
 
 import main.Game;
@@ -10,6 +8,7 @@ import utilz.Constants;
 import utilz.Enemy_Animation_Rows;
 import utilz.LoadSave;
 import utilz.HelpMethods;
+import utilz.SimulationClock;
 import gamestates.Playing;
 
 /**
@@ -21,10 +20,8 @@ import gamestates.Playing;
  */
 public class GolemBoss extends Enemy {
 
-    /** Matrice bidimensională pentru stocarea animațiilor normale ale boss-ului. */
-    private BufferedImage[][] animations;
-    /** Matrice bidimensională pentru stocarea animațiilor inversate (flipped) ale boss-ului. */
-    private BufferedImage[][] flippedAnimations;
+    /** Animațiile boss-ului (normale și inversate), partajate de toate instanțele. */
+    private AnimationSet animations;
 
     /** Sănătatea maximă a Golem Boss-ului. */
     private int maxHealthBoss = 450;
@@ -81,13 +78,15 @@ public class GolemBoss extends Enemy {
     /** Cronometru pentru cooldown-ul dintre acțiuni. */
     private int actionCooldown = 0;
     /** Durata minimă a stării IDLE. */
-    private final int IDLE_DURATION_MIN = 80;
+    private final int IDLE_DURATION_MIN = SimulationClock.ticks(2f / 3);
     /** Durata maximă a stării IDLE. */
-    private final int IDLE_DURATION_MAX = 160;
+    private final int IDLE_DURATION_MAX = SimulationClock.ticks(4f / 3);
+    /** Pauza din starea DETECTED înainte de alegerea următoarei acțiuni. */
+    private final int DECISION_DELAY = SimulationClock.ticks(0.25f);
     /** Durata pregătirii unui atac (telegraph). */
-    private final int PREPARE_ATTACK_DURATION = 60; // Longer telegraph
+    private final int PREPARE_ATTACK_DURATION = SimulationClock.ticks(0.5f); // Longer telegraph
     /** Cooldown-ul maxim după un atac. */
-    private final int ATTACK_COOLDOWN_MAX = 120; // Longer cooldown
+    private final int ATTACK_COOLDOWN_MAX = SimulationClock.ticks(1f); // Longer cooldown
     
     /** Indicator dacă Golem Boss-ul execută o acțiune în prezent. */
     private boolean isPerformingAction = false;
@@ -155,55 +154,30 @@ public class GolemBoss extends Enemy {
     }
 
     /**
-     * Încarcă animațiile pentru Golem Boss din sprite sheet-ul specific.
-     * Sprite sheet-ul este încărcat folosind clasa LoadSave.
-     * Animațiile sunt stocate în matricile `animations` și `flippedAnimations`.
+     * Încarcă animațiile pentru Golem Boss din sprite sheet.
+     * Setul de animații este construit o singură dată și partajat de toate instanțele
+     * (vezi {@link AnimationSet}), deci crearea unui nou boss nu mai decodează imagini.
      */
     private void loadAnimations() {
-        BufferedImage sheet = LoadSave.getSpriteAtlas(LoadSave.GOLEM_BOSS_SPRITESHEET);
-        if (sheet == null) {
-            System.err.println("Failed to load Golem Boss sprite sheet!");
-            return;
-        }
-        // Dimensiunile unui singur frame din sprite sheet (presupunând că sunt aceleași ca la Goblin Boss pentru consistență)
-        int spriteSheetCellWidth = Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_WIDTH_DEFAULT;
-        int spriteSheetCellHeight = Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_HEIGHT_DEFAULT;
-
-        animations = new BufferedImage[Enemy_Animation_Rows.values().length][];
-        flippedAnimations = new BufferedImage[Enemy_Animation_Rows.values().length][];
-        for (Enemy_Animation_Rows animRow : Enemy_Animation_Rows.values()) {
-            int rowIndex = animRow.getRowIndex();
-            int frameCount = animRow.getFrameCount();
-            if (rowIndex >= Enemy_Animation_Rows.values().length || frameCount == 0) continue; // Sare peste rândurile invalide sau fără frame-uri
-            animations[rowIndex] = new BufferedImage[frameCount];
-            flippedAnimations[rowIndex] = new BufferedImage[frameCount];
-            for (int i = 0; i < frameCount; i++) {
-                int ex = i * spriteSheetCellWidth;
-                int ey = rowIndex * spriteSheetCellHeight;
-                if (ey + spriteSheetCellHeight <= sheet.getHeight() && ex + spriteSheetCellWidth <= sheet.getWidth()) {
-                    animations[rowIndex][i] = sheet.getSubimage(ex, ey, spriteSheetCellWidth, spriteSheetCellHeight);
-                    flippedAnimations[rowIndex][i] = flipImage(animations[rowIndex][i]); // Creează și varianta inversată
-                } else {
-                     System.err.println("GolemBoss: Sprite out of bounds for " + animRow.name() + " frame " + i);
-                }
-            }
-        }
+        animations = getAnimations();
     }
 
     /**
-     * Inversează (flip) o imagine pe orizontală.
-     * @param image Imaginea care trebuie inversată.
-     * @return Imaginea inversată sau null dacă imaginea de intrare este null.
+     * Returnează setul de animații partajat al Golem Boss-ului, construindu-l la prima cerere.
+     * Folosită și de {@link levels.LevelAssetManifest} pentru a încărca setul odată cu nivelul.
+     * @return Setul de animații.
      */
-    private static BufferedImage flipImage(BufferedImage image) {
-        if (image == null) return null;
-        BufferedImage flipped = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
-                flipped.setRGB(image.getWidth() - 1 - x, y, image.getRGB(x, y));
+    public static AnimationSet getAnimations() {
+        int[] framesPerRow = new int[Enemy_Animation_Rows.values().length];
+        for (Enemy_Animation_Rows animRow : Enemy_Animation_Rows.values()) {
+            if (animRow.getRowIndex() < framesPerRow.length) {
+                framesPerRow[animRow.getRowIndex()] = animRow.getFrameCount();
             }
         }
-        return flipped;
+        return AnimationSet.get(LoadSave.GOLEM_BOSS_SPRITESHEET,
+                Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_WIDTH_DEFAULT,
+                Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_HEIGHT_DEFAULT,
+                framesPerRow);
     }
     
     /**
@@ -307,7 +281,7 @@ public class GolemBoss extends Enemy {
                     actionTimer = 0;
                     break;
                 }
-                if (actionTimer > 30) { // Scurtă pauză înainte de a decide
+                if (actionTimer > DECISION_DELAY) { // Scurtă pauză înainte de a decide
                      decideNextAction(player);
                 }
                 break;
@@ -544,30 +518,29 @@ public class GolemBoss extends Enemy {
     }
 
     /**
-     * Randează Golem Boss-ul pe ecran.
-     * Desenează animația curentă la poziția corectă, luând în considerare decalajul nivelului.
-     * Poate desena și hitbox-ul și hitbox-ul de atac (dacă `drawHitbox` este true).
-     * @param g Contextul grafic pentru desenare.
-     * @param xLvlOffset Decalajul pe axa X al nivelului, pentru scrolling.
+     * Adaugă Golem Boss-ul în lista de desenat a actualizării curente: animația curentă,
+     * hitbox-ul și hitbox-ul de atac (dacă `drawHitbox` este true).
+     * @param snapshot Lista de desenat.
      */
-    public void render(Graphics g, int xLvlOffset) {
+    public void addTo(WorldSnapshot snapshot) {
         if (!isActive) return; // Nu randa dacă nu este activ
-        if (animations == null || enemyState < 0 || enemyState >= animations.length || animations[enemyState] == null || animations[enemyState].length == 0) {
+        int frameCount = animations.getFrameCount(enemyState);
+        if (frameCount == 0) {
             return; // Verificare de siguranță pentru datele de animație
         }
-        BufferedImage[] currentAnimationSet = (this.direction == Enemy_Animation_Rows.Directions.LEFT) ? flippedAnimations[enemyState] : animations[enemyState];
         if (aniIndex < 0) aniIndex = 0; // Verificare de siguranță
-        if (aniIndex >= currentAnimationSet.length) aniIndex = currentAnimationSet.length - 1; // Verificare de siguranță
+        if (aniIndex >= frameCount) aniIndex = frameCount - 1; // Verificare de siguranță
 
-        if (currentAnimationSet[aniIndex] != null) {
-            float drawX = hitbox.x - xDrawOffset - xLvlOffset;
-            float drawY = hitbox.y - yDrawOffset;
-            g.drawImage(currentAnimationSet[aniIndex], (int)drawX, (int)drawY, DRAW_WIDTH, DRAW_HEIGHT, null);
+        boolean flipped = this.direction == Enemy_Animation_Rows.Directions.LEFT;
+        if (animations.hasFrame(enemyState, aniIndex)) {
+            snapshot.addSprite(animations, enemyState, aniIndex, flipped, hitbox.x - xDrawOffset, hitbox.y - yDrawOffset,
+                    DRAW_WIDTH, DRAW_HEIGHT, getRenderOffsetX(0), getRenderOffsetY(0));
             if (drawHitbox) { // Va desena doar dacă drawHitbox este true (acum false implicit)
-                drawHitbox(g, xLvlOffset);
+                addHitboxTo(snapshot);
                 if (currentMeleeHitbox != null && (currentActionState == ActionState.ATTACKING_MELEE)) {
-                    g.setColor(Color.RED); // Culoare pentru hitbox-ul de atac
-                    g.drawRect((int)(currentMeleeHitbox.x - xLvlOffset), (int)currentMeleeHitbox.y, (int)currentMeleeHitbox.width, (int)currentMeleeHitbox.height);
+                    // Culoare pentru hitbox-ul de atac
+                    snapshot.addOutline(Color.RED, currentMeleeHitbox.x, (int)currentMeleeHitbox.y,
+                            (int)currentMeleeHitbox.width, (int)currentMeleeHitbox.height, 0, 0);
                 }
             }
         }
@@ -1,13 +1,12 @@
 package entities;
 
-import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
 
 import main.Game;
 import utilz.Gorilla_Animation_rows;
 import utilz.HelpMethods;
 import utilz.LoadSave;
+import utilz.SimulationClock;
 
 /**
  * Reprezintă entitatea Karagor în joc, care poate funcționa ca un boss.
@@ -16,14 +15,14 @@ import utilz.LoadSave;
  * Gestionează stările, mișcarea, atacurile și interacțiunea cu mediul și jucătorul.
  */
 public class Karagor extends Player {
-    /** Matrice bidimensională pentru stocarea animațiilor normale ale lui Karagor. */
-    private BufferedImage[][] animations;
+    /** Animațiile lui Karagor (normale și inversate), partajate de toate instanțele. */
+    private AnimationSet animations;
     /** Contor pentru tick-urile de animație. */
     private int animationTick;
     /** Indexul frame-ului curent al animației. */
     private int animationIndex;
-    /** Viteza animației (numărul de tick-uri per frame). */
-    private int animationSpeed = 3;
+    /** Viteza animației (numărul de actualizări per frame, pentru 40 de cadre pe secundă). */
+    private int animationSpeed = SimulationClock.ticksPerFrame(40);
     /** Acțiunea curentă a lui Karagor (indexul rândului din sprite sheet). */
     private int karagorAction = Gorilla_Animation_rows.PUNCH_STANDING.getRowIndex();
     /** Direcția curentă a lui Karagor (-1 pentru stânga, 1 pentru dreapta - deși neutilizat direct în logica de mișcare). */
@@ -70,8 +69,8 @@ public class Karagor extends Player {
     private boolean isHurt = false;
     /** Cronometru pentru durata animației "hurt". */
     private int hurtTimer = 0;
-    /** Durata animației "hurt" în frame-uri. */
-    private final int HURT_ANIMATION_DURATION = 30;
+    /** Durata animației "hurt", în actualizări. */
+    private final int HURT_ANIMATION_DURATION = SimulationClock.ticks(0.25f);
 
 
     //Drawing hitbox
@@ -96,8 +95,6 @@ public class Karagor extends Player {
     private boolean isLanding = false;
     /** Frame-ul curent al animației de aterizare. */
     private int landingFrame = 7; // Start frame for landing animation
-    /** Matrice bidimensională pentru stocarea animațiilor inversate (flipped) ale lui Karagor. */
-    private BufferedImage[][] flippedAnimations;
     /** Indicator dacă hitbox-ul trebuie desenat (pentru debugging). */
     public boolean drawHitbox = true; // Should be false for release
     /** Indicator dacă această instanță de Karagor este un boss. */
@@ -107,13 +104,13 @@ public class Karagor extends Player {
     /** Limita stângă a platformei pe care se află Karagor (pentru patrulare). */
     private float platformLeftBound;
     /** Cooldown-ul dintre atacuri. */
-    private int attackCooldown = 120; // Ticks
+    private int attackCooldown = SimulationClock.ticks(1f); // Actualizări
     /** Distanța la care Karagor poate detecta jucătorul. */
     private float detectionRange = 500f;
     /** Indicator dacă Karagor execută un atac. */
     private boolean isAttacking = false;
     /** Cooldown-ul maxim dintre atacuri (în tick-uri). */
-    private final int ATTACK_COOLDOWN = 120; // Ticks
+    private final int ATTACK_COOLDOWN = SimulationClock.ticks(1f); // O secundă
 
     
     /**
@@ -327,84 +324,38 @@ public class Karagor extends Player {
     }
 
     /**
-     * Randează Karagor pe ecran.
-     * Desenează frame-ul curent al animației la poziția corectă, luând în considerare decalajul nivelului.
-     * @param g Contextul grafic pentru desenare.
-     * @param lvlOffsetX Decalajul pe axa X al nivelului, pentru scrolling.
+     * Adaugă Karagor în lista de desenat a actualizării curente.
+     * Frame-ul curent al animației este desenat de firul de randare, la poziția interpolată.
+     * @param snapshot Lista de desenat a actualizării curente.
      */
-    public void render(Graphics g, int lvlOffsetX) {
-        // Verificări pentru a preveni NullPointerException sau ArrayIndexOutOfBoundsException
-        if (karagorAction >= animations.length || animations[karagorAction] == null ||
-            animationIndex >= animations[karagorAction].length ||
-            animations[karagorAction][animationIndex] == null) {
-            // System.err.println("Karagor render: Animation data missing or invalid. Action: " + karagorAction + ", Index: " + animationIndex);
-            return; // Nu randa dacă datele de animație sunt invalide
-        }
-        
-        // Alege frame-ul corect (normal sau inversat) în funcție de direcție
-        BufferedImage currentFrame = facingRight ?
-            flippedAnimations[karagorAction][animationIndex] :
-            animations[karagorAction][animationIndex];
-        
-        // Desenează frame-ul la poziția corectă, ajustată cu decalajul nivelului
-        g.drawImage(currentFrame, (int)x - lvlOffsetX, (int)y, width, height, null);
-        
-        // drawHitbox(g, lvlOffsetX); // Metoda drawHitbox din Player ar trebui să primească lvlOffsetX
+    @Override
+    public void addTo(WorldSnapshot snapshot) {
+        // Frame-ul corect (normal sau inversat); nu se desenează nimic dacă datele de animație sunt invalide
+        snapshot.addSprite(animations, karagorAction, animationIndex, facingRight,
+                x, y, width, height, getRenderOffsetX(0), getRenderOffsetY(0));
     }
 
     /**
      * Încarcă animațiile pentru Karagor din sprite sheet.
-     * Sprite sheet-ul este încărcat folosind clasa LoadSave.
-     * Animațiile sunt stocate în matricile `animations` și `flippedAnimations`.
+     * Setul de animații este construit o singură dată și partajat de toate instanțele
+     * (vezi {@link AnimationSet}), deci crearea unui nou Karagor nu mai decodează imagini.
      */
     public void loadAnimations() {
-        BufferedImage image = LoadSave.getSpriteAtlas(LoadSave.KARAGOR_SPRITESHEET);
-        if (image == null) {
-            System.err.println("Failed to load Karagor sprite sheet!");
-            // Inițializează matricile goale pentru a preveni NullPointerException
-            animations = new BufferedImage[Gorilla_Animation_rows.values().length][0];
-            flippedAnimations = new BufferedImage[Gorilla_Animation_rows.values().length][0];
-            return;
-        }
-        animations = new BufferedImage[Gorilla_Animation_rows.values().length][27]; // Presupunând maxim 27 de frame-uri per animație
-        flippedAnimations = new BufferedImage[Gorilla_Animation_rows.values().length][27];
-        
-        for (int row = 0; row < animations.length; row++) {
-            // Verifică dacă rândul corespunde unei valori valide din enum
-            if (row < Gorilla_Animation_rows.values().length) {
-                Gorilla_Animation_rows animEnum = Gorilla_Animation_rows.values()[row];
-                int frameCount = animEnum.getFrameCount(); // Obține numărul de frame-uri pentru acest rând
-
-                for (int col = 0; col < frameCount; col++) { // Iterează doar până la numărul real de frame-uri
-                    int x = col * 272; // Lățimea unui frame
-                    int y = row * 183; // Înălțimea unui frame
-                    if (x + 272 <= image.getWidth() && y + 183 <= image.getHeight()) {
-                        animations[row][col] = image.getSubimage(x, y, 272, 183);
-                        // Pre-inversează sprite-ul pentru animațiile orientate spre dreapta
-                        flippedAnimations[row][col] = flipImage(animations[row][col]);
-                    } else {
-                        // System.err.println("Karagor loadAnimations: Sprite out of bounds for row " + row + ", col " + col);
-                    }
-                }
-            }
-        }
-        System.out.println("Karagor animations loaded successfully");
+        animations = getAnimations();
     }
 
     /**
-     * Inversează (flip) o imagine pe orizontală.
-     * @param image Imaginea care trebuie inversată.
-     * @return Imaginea inversată.
+     * Returnează setul de animații partajat al lui Karagor, construindu-l la prima cerere.
+     * Folosită și de {@link levels.LevelAssetManifest} pentru a încărca setul odată cu nivelul.
+     * @return Setul de animații.
      */
-    static BufferedImage flipImage(BufferedImage image) {
-        if (image == null) return null;
-        BufferedImage flipped = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
-                flipped.setRGB(image.getWidth() - 1 - x, y, image.getRGB(x, y));
-            }
+    public static AnimationSet getAnimations() {
+        Gorilla_Animation_rows[] rows = Gorilla_Animation_rows.values();
+        int[] framesPerRow = new int[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            framesPerRow[row] = rows[row].getFrameCount();
         }
-        return flipped;
+        return AnimationSet.get(LoadSave.KARAGOR_SPRITESHEET, 272, 183, framesPerRow);
     }
 
     /**
@@ -5,6 +5,7 @@ import java.awt.geom.Rectangle2D;
 import main.Game;
 import utilz.HelpMethods;
 import utilz.Enemy_Animation_Rows;
+import utilz.SimulationClock;
 
 /**
  * Reprezintă entitatea Nanite în joc.
@@ -48,8 +49,8 @@ public class Nanite extends Enemy {
     private int ticksInState = 0;
     /** Cooldown-ul dintre atacuri. */
     private int attackCooldown = 0;
-    /** Cooldown-ul maxim dintre atacuri (aproximativ 2 secunde la 60 FPS). */
-    private static final int ATTACK_COOLDOWN_MAX = 120;
+    /** Cooldown-ul maxim dintre atacuri (2 secunde). */
+    private static final int ATTACK_COOLDOWN_MAX = SimulationClock.ticks(2f);
     /** Indicator dacă lovitura de atac a fost verificată în animația curentă. */
     private boolean attackChecked = false;
     /** Indicator dacă jucătorul a fost detectat de Nanite. */
@@ -90,8 +91,8 @@ public class Nanite extends Enemy {
     private Rectangle2D.Float attackBox;
     /** Cooldown-ul pentru daunele provocate prin atingerea jucătorului. */
     private int playerTouchCooldown = 0;
-    /** Cooldown-ul dintre daunele provocate prin atingere (în frame-uri). */
-    private int touchDamageCooldown = 60;
+    /** Cooldown-ul dintre daunele provocate prin atingere (în actualizări). */
+    private int touchDamageCooldown = SimulationClock.ticks(0.5f);
      
     // Patrolling
     /** Distanța pe care Nanite-ul o patrulează în fiecare direcție de la punctul de start. */
@@ -298,7 +299,7 @@ public class Nanite extends Enemy {
         // Comportamentul în funcție de stare
         switch (getEnemyState()) {
             case IDLE:
-                if (ticksInState > 60) { // După un timp în IDLE
+                if (ticksInState > SimulationClock.ticks(0.5f)) { // După un timp în IDLE
                     ticksInState = 0;
                     // Începe să se miște dacă nu se mișca deja
                     setState(RUNNING);
@@ -333,7 +334,7 @@ public class Nanite extends Enemy {
             case ATTACK:
                 isMoving = false; // Nu se mișcă în timpul atacului
                 // Verifică lovitura de atac o singură dată în timpul animației
-                if (!attackChecked && ticksInState > 6) { // Verifică după câteva tick-uri (sincronizare cu animația)
+                if (!attackChecked && ticksInState > SimulationClock.ticks(0.05f)) { // Verifică după câteva tick-uri (sincronizare cu animația)
                     checkAttackHit(); // Metodă placeholder pentru verificarea loviturii
                     attackChecked = true; // Marchează că lovitura a fost verificată
                     attackCooldown = ATTACK_COOLDOWN_MAX; // Setează cooldown-ul după atac
@@ -341,7 +342,7 @@ public class Nanite extends Enemy {
                 
                 // Revine la starea anterioară după terminarea animației de atac
                 // Presupunând că Enemy_Animation_Rows.values()[ATTACK] returnează informații despre animația de atac
-                if (ticksInState >= Enemy_Animation_Rows.values()[ATTACK].getFrameCount() * 5) { // Durata animației (5 tick-uri per frame)
+                if (ticksInState >= Enemy_Animation_Rows.values()[ATTACK].getFrameCount() * aniSpeed) { // Durata animației (aniSpeed actualizări per frame)
                     attackChecked = false; // Resetează pentru următorul atac
                     setState(IDLE); // Revine la IDLE
                 }
@@ -350,7 +351,7 @@ public class Nanite extends Enemy {
             case HURT:
                 isMoving = false; // Nu se mișcă când este lovit
                 // Presupunând că Enemy_Animation_Rows.values()[HURT] returnează informații despre animația de lovire
-                if (ticksInState >= Enemy_Animation_Rows.values()[HURT].getFrameCount() * 5) { // Durata animației de lovire
+                if (ticksInState >= Enemy_Animation_Rows.values()[HURT].getFrameCount() * aniSpeed) { // Durata animației de lovire
                     if (health <= 0) { // Dacă sănătatea a ajuns la 0 sau mai puțin
                         setState(DYING); // Trece la starea de moarte
                     } else {
@@ -362,7 +363,7 @@ public class Nanite extends Enemy {
             case DYING:
                 isMoving = false; // Nu se mișcă când moare
                 // Presupunând că Enemy_Animation_Rows.values()[DYING] returnează informații despre animația de moarte
-                if (ticksInState >= Enemy_Animation_Rows.values()[DYING].getFrameCount() * 5) { // Durata animației de moarte
+                if (ticksInState >= Enemy_Animation_Rows.values()[DYING].getFrameCount() * aniSpeed) { // Durata animației de moarte
                     isActive = false; // Devine inactiv după terminarea animației
                 }
                 break;
@@ -4,20 +4,19 @@ import java.awt.Graphics;
 import java.awt.Graphics2D; 
 import java.awt.AlphaComposite; 
 import java.awt.Color; 
-import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import main.Game;
 import utilz.Constants; 
 import utilz.Gorilla_Animation_rows;
 import utilz.HelpMethods;
 import utilz.LoadSave;
+import utilz.SimulationClock;
 
 public class Player extends Entity {
-    private BufferedImage[][] animations;
-    private BufferedImage[][] flippedAnimations;
-    private BufferedImage[][] crystalRushAnimations; // For Crystal Rush state
-    private BufferedImage[][] flippedCrystalRushAnimations; // For Crystal Rush state
+    private AnimationSet animations; // Shared with every Player instance
+    private AnimationSet crystalRushAnimations; // For Crystal Rush state
 
-    private int animationTick, animationIndex, animationSpeed = 3;
+    private int animationTick, animationIndex, animationSpeed = SimulationClock.ticksPerFrame(40); // 40 frames per simulated second
     private int playerAction = Gorilla_Animation_rows.PUNCH_STANDING.getRowIndex();
     private int playerDirection = -1;
     private boolean moving = false, attack = false;
@@ -44,7 +43,8 @@ public class Player extends Entity {
     private int currentHealth = 100;
     private boolean isDamaged = false;
     private int damageFlashTimer = 0;
-    private final int DAMAGE_FLASH_DURATION = 20; 
+    private final int DAMAGE_FLASH_DURATION = SimulationClock.ticks(1f / 6); 
+    private final int DAMAGE_FLASH_BLINK = SimulationClock.ticks(1f / 60); // Visible/hidden phase of the flash
 
     private int permanentMaxHpBonus = 0;
     private int permanentAttackDamageBonus = 0;
@@ -52,7 +52,7 @@ public class Player extends Entity {
     private float knockbackX = 0;
     private float knockbackY = 0;
     private int knockbackDuration = 0;
-    private final int KNOCKBACK_DURATION = 15; 
+    private final int KNOCKBACK_DURATION = SimulationClock.ticks(0.125f); 
 
     private float xDrawOffset = 66 * Game.SCALE;
     private float yDrawOffset = 39 * Game.SCALE;
@@ -73,16 +73,16 @@ public class Player extends Entity {
     private boolean jumpSlamUnlocked = false; // New for Jump Slam
     private final float JUMP_SLAM_DASH_SPEED = 8.0f * Game.SCALE; // New for Jump Slam movement
     private int jumpSlamCooldownTimer = 0; // New for Jump Slam cooldown
-    private final int JUMP_SLAM_COOLDOWN_DURATION = 1200; // 20 seconds at 60 UPS
+    private final int JUMP_SLAM_COOLDOWN_DURATION = SimulationClock.ticks(20f); // 20 seconds
 
     private int whackCooldownTimer = 0;
-    private final int WHACK_COOLDOWN_DURATION = 45;
+    private final int WHACK_COOLDOWN_DURATION = SimulationClock.ticks(0.375f);
 
     private boolean isCrystalRushActive = false;
     private int crystalRushTimer = 0;
-    private final int CRYSTAL_RUSH_DURATION = 1200; 
+    private final int CRYSTAL_RUSH_DURATION = SimulationClock.ticks(20f); // 20 seconds
     private int crystalRushCooldownTimer = 0;
-    private final int CRYSTAL_RUSH_COOLDOWN_DURATION = 3600; 
+    private final int CRYSTAL_RUSH_COOLDOWN_DURATION = SimulationClock.ticks(60f); // 60 seconds
     private boolean crystalRushUnlocked = false;
     private float originalPlayerSpeed;
 
@@ -256,98 +256,39 @@ public class Player extends Entity {
         }
     }
 
-    public void render(Graphics g, int lvlOffsetX) {
-        BufferedImage currentFrame;
-        BufferedImage[][] currentAnimationSetToUse = animations;
-        BufferedImage[][] currentFlippedSetToUse = flippedAnimations;
-
-        if (isCrystalRushActive && crystalRushAnimations != null && flippedCrystalRushAnimations != null) {
+    /**
+     * Adaugă jucătorul în lista de desenat a actualizării curente, împreună cu decalajul
+     * față de poziția anterioară (pentru interpolare, vezi {@link #getRenderOffsetX(float)}).
+     *
+     * @param snapshot Lista de desenat.
+     */
+    public void addTo(WorldSnapshot snapshot) {
+        AnimationSet currentAnimationSetToUse = animations;
+        if (isCrystalRushActive && crystalRushAnimations != null && crystalRushAnimations.hasFrame(playerAction, animationIndex)) {
             currentAnimationSetToUse = crystalRushAnimations;
-            currentFlippedSetToUse = flippedCrystalRushAnimations;
         }
 
-        if (playerAction < 0 || playerAction >= currentAnimationSetToUse.length || 
-            animationIndex < 0 || animationIndex >= currentAnimationSetToUse[playerAction].length || 
-            currentAnimationSetToUse[playerAction][animationIndex] == null) {
-            
-            if (isCrystalRushActive) { 
-                 currentAnimationSetToUse = animations; 
-                 currentFlippedSetToUse = flippedAnimations;
-                 if (playerAction < 0 || playerAction >= currentAnimationSetToUse.length || 
-                     animationIndex < 0 || animationIndex >= currentAnimationSetToUse[playerAction].length || 
-                     currentAnimationSetToUse[playerAction][animationIndex] == null) {
-                    return; 
-                 }
-            } else {
-                return; 
-            }
-        }
-        
-        currentFrame = facingRight ? 
-            currentFlippedSetToUse[playerAction][animationIndex] : 
-            currentAnimationSetToUse[playerAction][animationIndex];
-        
-        if (isDamaged && damageFlashTimer % 4 < 2) {
+        if (isDamaged && damageFlashTimer % (2 * DAMAGE_FLASH_BLINK) < DAMAGE_FLASH_BLINK) {
             // Don't draw if flashing
         } else {
-            g.drawImage(currentFrame, (int)x - lvlOffsetX, (int)y, width, height, null);
+            snapshot.addSprite(currentAnimationSetToUse, playerAction, animationIndex, facingRight,
+                    x, y, width, height, getRenderOffsetX(0), getRenderOffsetY(0));
         }
     }
 
-    public void loadAnimations() {
-        BufferedImage image = LoadSave.getSpriteAtlas(LoadSave.PLAYER_ATLAS);
-        animations = new BufferedImage[Gorilla_Animation_rows.values().length][27];
-        flippedAnimations = new BufferedImage[Gorilla_Animation_rows.values().length][27];
-        crystalRushAnimations = new BufferedImage[Gorilla_Animation_rows.values().length][27];
-        flippedCrystalRushAnimations = new BufferedImage[Gorilla_Animation_rows.values().length][27];
-        
-        for (int row = 0; row < animations.length; row++) {
-            for (int col = 0; col < animations[row].length; col++) {
-                int x_coord = col * 272; 
-                int y_coord = row * 183; 
-                if (image!= null && x_coord + 272 <= image.getWidth() && y_coord + 183 <= image.getHeight()) {
-                    animations[row][col] = image.getSubimage(x_coord, y_coord, 272, 183);
-                    flippedAnimations[row][col] = flipImage(animations[row][col]);
-                }
-            }
-        }
-        System.out.println("Normal animations loaded successfully");
-
-        BufferedImage crystalRushImage = LoadSave.getSpriteAtlas(LoadSave.KOBA_RUSH); 
-        if (crystalRushImage != null) {
-            for (int row = 0; row < crystalRushAnimations.length; row++) {
-                for (int col = 0; col < crystalRushAnimations[row].length; col++) {
-                    int x_coord = col * 272; 
-                    int y_coord = row * 183; 
-                    if (x_coord + 272 <= crystalRushImage.getWidth() && y_coord + 183 <= crystalRushImage.getHeight()) {
-                        crystalRushAnimations[row][col] = crystalRushImage.getSubimage(x_coord, y_coord, 272, 183);
-                        flippedCrystalRushAnimations[row][col] = flipImage(crystalRushAnimations[row][col]);
-                    } else {
-                        if (animations[row][col] != null) { 
-                             crystalRushAnimations[row][col] = animations[row][col];
-                             flippedCrystalRushAnimations[row][col] = flippedAnimations[row][col];
-                        }
-                    }
-                }
-            }
-            System.out.println("Crystal Rush animations loaded (using placeholder).");
-        } else {
-            System.err.println("Failed to load Crystal Rush placeholder spritesheet. Crystal Rush will use normal sprites.");
-            for (int row = 0; row < animations.length; row++) { 
-                crystalRushAnimations[row] = animations[row];
-                flippedCrystalRushAnimations[row] = flippedAnimations[row];
-            }
-        }
-    }
+    /** Jucătorul este desenat după {@code x} și {@code y}, nu după hitbox. */
+    @Override
+    protected float getRenderAnchorX() { return x; }
+    @Override
+    protected float getRenderAnchorY() { return y; }
 
-    static BufferedImage flipImage(BufferedImage image) {
-        BufferedImage flipped = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        for (int x_coord = 0; x_coord < image.getWidth(); x_coord++) {
-            for (int y_coord = 0; y_coord < image.getHeight(); y_coord++) {
-                flipped.setRGB(image.getWidth() - 1 - x_coord, y_coord, image.getRGB(x_coord, y_coord));
-            }
-        }
-        return flipped;
+    public void loadAnimations() {
+        // The frames are decoded and flipped once per spritesheet and shared by every Player
+        int[] framesPerRow = new int[Gorilla_Animation_rows.values().length];
+        Arrays.fill(framesPerRow, 27);
+        animations = AnimationSet.get(LoadSave.PLAYER_ATLAS, 272, 183, framesPerRow);
+        // Frames missing from the Crystal Rush sheet fall back to the normal ones
+        crystalRushAnimations = AnimationSet.get(LoadSave.KOBA_RUSH, 272, 183, framesPerRow, animations);
     }
 
     public void loadLevelData(int[][] levelData){
@@ -622,6 +563,7 @@ public class Player extends Entity {
         this.hitbox.y = y;
         this.x = x - xDrawOffset;
         this.y = y - yDrawOffset;
+        savePreviousPosition(); // Teleportare: nu interpola de la poziția veche
     }
     public void resetToStartPosition() { setPosition(100 * Game.SCALE, 770 * Game.SCALE); }
     public boolean isThrowing() { return isThrowing; }
@@ -651,7 +593,7 @@ public class Player extends Entity {
         } else if (isCrystalRushActive) {
             System.out.println("Crystal Rush is already active!");
         } else if (crystalRushCooldownTimer > 0) {
-            System.out.println("Crystal Rush is on cooldown: " + (crystalRushCooldownTimer / 60) + "s remaining.");
+            System.out.println("Crystal Rush is on cooldown: " + (int) SimulationClock.seconds(crystalRushCooldownTimer) + "s remaining.");
         }
     }
 
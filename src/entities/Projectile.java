@@ -1,7 +1,6 @@
 package entities;
 
 import java.awt.Color;
-import java.awt.Graphics;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage; // For potential sprite
 import utilz.LoadSave; // For potential sprite
@@ -82,30 +81,27 @@ public class Projectile extends Entity {
     }
 
     /**
-     * Desenează proiectilul pe ecran.
-     * Dacă proiectilul nu este activ, nu desenează nimic.
-     * Desenează sprite-ul dacă este disponibil, altfel desenează un dreptunghi galben.
+     * Adaugă proiectilul în lista de desenat a actualizării curente.
+     * Dacă proiectilul nu este activ, nu adaugă nimic.
+     * Folosește sprite-ul dacă este disponibil, altfel un dreptunghi galben.
      * Include logica pentru inversarea sprite-ului dacă se mișcă spre stânga.
-     * @param g Contextul grafic pentru desenare.
-     * @param xLvlOffset Decalajul pe axa X al nivelului, pentru scrolling.
+     * @param snapshot Lista de desenat.
      */
-    public void draw(Graphics g, int xLvlOffset) {
+    public void addTo(WorldSnapshot snapshot) {
         if (!active) return; // Nu desena dacă nu este activ
+        float dx = getRenderOffsetX(0);
 
-        // Desenează hitbox-ul pentru debugging, sau desenează sprite-ul dacă este disponibil
         if (img != null) { // Dacă există un sprite
             if (direction == utilz.Enemy_Animation_Rows.Directions.LEFT) { // Dacă se mișcă la stânga, inversează imaginea
-                g.drawImage(img, (int) (hitbox.x - xLvlOffset + hitbox.width), (int) hitbox.y, (int)-hitbox.width, (int)hitbox.height, null);
+                snapshot.addImage(img, hitbox.x + hitbox.width, (int) hitbox.y, (int)-hitbox.width, (int)hitbox.height, dx, 0);
             } else { // Altfel, desenează normal
-                g.drawImage(img, (int) (hitbox.x - xLvlOffset), (int) hitbox.y, (int)hitbox.width, (int)hitbox.height, null);
+                snapshot.addImage(img, hitbox.x, (int) hitbox.y, (int)hitbox.width, (int)hitbox.height, dx, 0);
             }
         } else { // Dacă nu există sprite, desenează un dreptunghi simplu
-            g.setColor(java.awt.Color.YELLOW); // Culoare simplă pentru proiectil
-            g.fillRect((int) (hitbox.x - xLvlOffset), (int) hitbox.y, (int) hitbox.width, (int) hitbox.height);
+            snapshot.addRect(java.awt.Color.YELLOW, hitbox.x, (int) hitbox.y, (int) hitbox.width, (int) hitbox.height, dx, 0);
         }
         // Pentru a desena hitbox-ul proiectilului pentru debugging:
-        // g.setColor(Color.RED);
-        // g.drawRect((int) (hitbox.x - xLvlOffset), (int) hitbox.y, (int) hitbox.width, (int) hitbox.height);
+        // snapshot.addOutline(Color.RED, hitbox.x, hitbox.y, (int) hitbox.width, (int) hitbox.height, dx, 0);
     }
 
     /**
@@ -0,0 +1,318 @@
+package entities;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+import levels.LevelRenderState;
+
+/**
+ * Lista compactă a elementelor de desenat ale lumii de joc (sprite-uri, imagini, bare de viață),
+ * scrisă de firul actualizărilor la finalul fiecărei actualizări și desenată apoi de firul de randare.
+ * <p>
+ * Fiecare element reține poziția curentă (în coordonatele nivelului) și decalajul până la poziția
+ * de la actualizarea anterioară ({@link Entity#getRenderOffsetX(float)} pentru {@code alpha = 0}),
+ * astfel încât desenarea poate interpola între cele două fără a mai citi entitățile.
+ * Elementele sunt desenate în ordinea în care au fost adăugate. Lista reține și starea de desenare
+ * a nivelului în care se aflau entitățile, ca nivelul și entitățile să provină mereu din aceeași actualizare.
+ * <p>
+ * Obiectele pentru elemente sunt refolosite de la o actualizare la alta, deci scrierea unei liste nu alocă
+ * memorie după primele actualizări. O listă este scrisă și citită de fire diferite doar prin
+ * {@link utilz.TripleBuffer}, care garantează că nu este desenată cât timp este scrisă.
+ */
+public class WorldSnapshot {
+
+    private static final int SPRITE = 0;
+    private static final int IMAGE = 1;
+    private static final int HEALTH_BAR = 2;
+    private static final int OUTLINE = 3;
+    private static final int TEXT = 4;
+    private static final int RECT = 5;
+
+    /** Un element de desenat. Câmpurile nefolosite de tipul elementului sunt ignorate. */
+    private static class Item {
+        int type;
+        AnimationSet set;
+        BufferedImage image;
+        int row, index;
+        boolean flipped;
+        float x, y, dx, dy;
+        int width, height;
+        int fill, border;
+        Color color;
+        String text;
+    }
+
+    /** Elementele (refolosite); doar primele {@link #count} sunt valide. */
+    private final ArrayList<Item> items = new ArrayList<>();
+    /** Numărul de elemente valide. */
+    private int count;
+
+    /** Momentul ({@link System#nanoTime()}) corespunzător actualizării care a scris lista. */
+    private long tickNanos;
+    /** Poziția pe X pe care este centrată camera. */
+    private float cameraX;
+    /** Decalajul camerei până la poziția de la actualizarea anterioară. */
+    private float cameraDx;
+    /** Starea de desenare a nivelului curent. */
+    private LevelRenderState level = LevelRenderState.EMPTY;
+    /** Procentul de viață al jucătorului, afișat în HUD. */
+    private int healthPercent;
+    /** Numărul de nuci de cocos, afișat în HUD. */
+    private int coconuts;
+    /** Timpul scurs în nivel, în secunde, afișat în HUD. */
+    private int elapsedSeconds;
+
+    /**
+     * Golește lista, pentru a fi scrisă de o nouă actualizare.
+     *
+     * @param tickNanos Momentul corespunzător actualizării.
+     */
+    public void clear(long tickNanos) {
+        this.tickNanos = tickNanos;
+        for (int i = 0; i < count; i++) {
+            Item item = items.get(i);
+            item.set = null; // Nu reține resursele nivelurilor anterioare
+            item.image = null;
+            item.text = null;
+        }
+        count = 0;
+    }
+
+    /**
+     * Setează poziția pe care se centrează camera.
+     *
+     * @param x Poziția curentă pe X.
+     * @param dx Decalajul până la poziția de la actualizarea anterioară.
+     */
+    public void setCamera(float x, float dx) {
+        cameraX = x;
+        cameraDx = dx;
+    }
+
+    /**
+     * Setează nivelul pe care se desenează elementele.
+     *
+     * @param level Starea de desenare a nivelului.
+     */
+    public void setLevel(LevelRenderState level) {
+        this.level = level;
+    }
+
+    /**
+     * Returnează nivelul pe care se desenează elementele.
+     * @return Starea de desenare a nivelului (niciodată {@code null}).
+     */
+    public LevelRenderState getLevel() {
+        return level;
+    }
+
+    /**
+     * Setează valorile afișate de HUD, din aceeași actualizare ca entitățile.
+     *
+     * @param healthPercent Procentul de viață al jucătorului.
+     * @param coconuts Numărul de nuci de cocos.
+     * @param elapsedSeconds Timpul scurs în nivel, în secunde.
+     */
+    public void setHud(int healthPercent, int coconuts, int elapsedSeconds) {
+        this.healthPercent = healthPercent;
+        this.coconuts = coconuts;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    /** @return Procentul de viață al jucătorului afișat în HUD. */
+    public int getHealthPercent() { return healthPercent; }
+    /** @return Numărul de nuci de cocos afișat în HUD. */
+    public int getCoconuts() { return coconuts; }
+    /** @return Timpul scurs în nivel, în secunde, afișat în HUD. */
+    public int getElapsedSeconds() { return elapsedSeconds; }
+
+    /**
+     * Adaugă un cadru dintr-un set de animații (vezi {@link AnimationSet#draw}).
+     *
+     * @param set Setul de animații.
+     * @param row Rândul animației.
+     * @param index Indexul cadrului.
+     * @param flipped {@code true} pentru varianta inversată.
+     * @param x Poziția x a celulei, în nivel.
+     * @param y Poziția y a celulei.
+     * @param width Lățimea de desenare.
+     * @param height Înălțimea de desenare.
+     * @param dx Decalajul pe X până la poziția anterioară.
+     * @param dy Decalajul pe Y până la poziția anterioară.
+     */
+    public void addSprite(AnimationSet set, int row, int index, boolean flipped, float x, float y,
+                          int width, int height, float dx, float dy) {
+        Item item = next(SPRITE, x, y, width, height, dx, dy);
+        item.set = set;
+        item.row = row;
+        item.index = index;
+        item.flipped = flipped;
+    }
+
+    /**
+     * Adaugă o imagine. O lățime negativă desenează imaginea inversată, de la {@code x} spre stânga.
+     *
+     * @param image Imaginea.
+     * @param x Poziția x, în nivel.
+     * @param y Poziția y.
+     * @param width Lățimea de desenare.
+     * @param height Înălțimea de desenare.
+     * @param dx Decalajul pe X până la poziția anterioară.
+     * @param dy Decalajul pe Y până la poziția anterioară.
+     */
+    public void addImage(BufferedImage image, float x, float y, int width, int height, float dx, float dy) {
+        next(IMAGE, x, y, width, height, dx, dy).image = image;
+    }
+
+    /**
+     * Adaugă o bară de viață: contur negru, fundal roșu și porțiunea rămasă verde.
+     *
+     * @param x Poziția x a barei, în nivel.
+     * @param y Poziția y a barei.
+     * @param width Lățimea barei.
+     * @param height Înălțimea barei.
+     * @param fill Lățimea porțiunii verzi.
+     * @param border Grosimea conturului.
+     * @param dx Decalajul pe X până la poziția anterioară.
+     * @param dy Decalajul pe Y până la poziția anterioară.
+     */
+    public void addHealthBar(float x, float y, int width, int height, int fill, int border, float dx, float dy) {
+        Item item = next(HEALTH_BAR, x, y, width, height, dx, dy);
+        item.fill = fill;
+        item.border = border;
+    }
+
+    /**
+     * Adaugă conturul unui dreptunghi (pentru depanarea hitbox-urilor).
+     *
+     * @param color Culoarea conturului.
+     * @param x Poziția x, în nivel.
+     * @param y Poziția y.
+     * @param width Lățimea.
+     * @param height Înălțimea.
+     * @param dx Decalajul pe X până la poziția anterioară.
+     * @param dy Decalajul pe Y până la poziția anterioară.
+     */
+    public void addOutline(Color color, float x, float y, int width, int height, float dx, float dy) {
+        next(OUTLINE, x, y, width, height, dx, dy).color = color;
+    }
+
+    /**
+     * Adaugă un dreptunghi plin.
+     *
+     * @param color Culoarea dreptunghiului.
+     * @param x Poziția x, în nivel.
+     * @param y Poziția y.
+     * @param width Lățimea.
+     * @param height Înălțimea.
+     * @param dx Decalajul pe X până la poziția anterioară.
+     * @param dy Decalajul pe Y până la poziția anterioară.
+     */
+    public void addRect(Color color, float x, float y, int width, int height, float dx, float dy) {
+        next(RECT, x, y, width, height, dx, dy).color = color;
+    }
+
+    /**
+     * Adaugă un text (pentru depanare).
+     *
+     * @param text Textul.
+     * @param color Culoarea textului.
+     * @param x Poziția x, în nivel.
+     * @param y Poziția y a liniei de bază.
+     * @param dx Decalajul pe X până la poziția anterioară.
+     * @param dy Decalajul pe Y până la poziția anterioară.
+     */
+    public void addText(String text, Color color, float x, float y, float dx, float dy) {
+        Item item = next(TEXT, x, y, 0, 0, dx, dy);
+        item.text = text;
+        item.color = color;
+    }
+
+    /**
+     * Returnează următorul element liber, completat cu datele comune.
+     */
+    private Item next(int type, float x, float y, int width, int height, float dx, float dy) {
+        if (count == items.size()) {
+            items.add(new Item());
+        }
+        Item item = items.get(count++);
+        item.type = type;
+        item.x = x;
+        item.y = y;
+        item.width = width;
+        item.height = height;
+        item.dx = dx;
+        item.dy = dy;
+        return item;
+    }
+
+    /**
+     * Returnează fracțiunea scursă din intervalul dintre actualizarea care a scris lista și următoarea.
+     *
+     * @param now Momentul curent ({@link System#nanoTime()}).
+     * @param nanosPerTick Durata unei actualizări, în nanosecunde.
+     * @return Valoarea între 0 și 1 folosită la interpolare.
+     */
+    public float getAlpha(long now, double nanosPerTick) {
+        double alpha = (now - tickNanos) / nanosPerTick;
+        return (float) Math.max(0, Math.min(1, alpha));
+    }
+
+    /**
+     * Returnează poziția interpolată pe care se centrează camera.
+     *
+     * @param alpha Fracțiunea pentru interpolare.
+     * @return Poziția pe X, în nivel.
+     */
+    public float getCameraX(float alpha) {
+        return cameraX + cameraDx * (1 - alpha);
+    }
+
+    /**
+     * Desenează elementele listei la pozițiile interpolate.
+     *
+     * @param g Contextul grafic.
+     * @param xLvlOffset Decalajul nivelului pe axa X.
+     * @param alpha Fracțiunea pentru interpolare (0 pentru pozițiile anterioare, 1 pentru cele curente).
+     */
+    public void draw(Graphics g, int xLvlOffset, float alpha) {
+        float remaining = 1 - alpha;
+        for (int i = 0; i < count; i++) {
+            Item item = items.get(i);
+            int x = (int) (item.x + item.dx * remaining) - xLvlOffset;
+            int y = (int) (item.y + item.dy * remaining);
+            switch (item.type) {
+                case SPRITE:
+                    item.set.draw(g, item.row, item.index, item.flipped, x, y, item.width, item.height);
+                    break;
+                case IMAGE:
+                    g.drawImage(item.image, x, y, item.width, item.height, null);
+                    break;
+                case HEALTH_BAR:
+                    g.setColor(Color.BLACK); // Contur
+                    g.fillRect(x - item.border, y - item.border, item.width + 2 * item.border, item.height + 2 * item.border);
+                    g.setColor(Color.RED); // Viață pierdută
+                    g.fillRect(x, y, item.width, item.height);
+                    g.setColor(Color.GREEN); // Viață rămasă
+                    g.fillRect(x, y, item.fill, item.height);
+                    break;
+                case OUTLINE:
+                    g.setColor(item.color);
+                    g.drawRect(x, y, item.width, item.height);
+                    break;
+                case RECT:
+                    g.setColor(item.color);
+                    g.fillRect(x, y, item.width, item.height);
+                    break;
+                case TEXT:
+                    g.setColor(item.color);
+                    g.drawString(item.text, x, y);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -5,9 +5,9 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import main.Game;
 import ui.MenuButton;
+import utilz.FontRegistry;
 import utilz.LoadSave;
 
 /**
@@ -20,7 +20,6 @@ public class EnterNameOverlay extends State implements Statemethods {
 
     private BufferedImage startbgImg; // Imaginea de fundal pentru ecranul de start/introducere nume
     private BufferedImage frameImg; // Imaginea cadrului pentru câmpul de introducere a numelui
-    private int startbgX, startbgY, startbgWidth, startbgHeight; // Coordonate și dimensiuni pentru fundal
     private int frameX, frameY, frameWidth, frameHeight; // Coordonate și dimensiuni pentru cadru
     private MenuButton startButton; // Butonul pentru a începe jocul după introducerea numelui
     private Rectangle closeButtonBounds; // Limitele pentru un eventual buton de închidere (X)
@@ -71,11 +70,8 @@ public class EnterNameOverlay extends State implements Statemethods {
      * Încarcă și configurează imaginea de fundal.
      */
     private void loadStartImg() {
-        startbgImg = LoadSave.getSpriteAtlas(LoadSave.START_BACKGROUND);
-        startbgWidth = (int) (startbgImg.getWidth() * Game.SCALE);
-        startbgHeight = (int) (startbgImg.getHeight() * Game.SCALE);
-        startbgX = Game.GAME_WIDTH / 2 - startbgWidth / 2;
-        startbgY = (int) (0 * Game.SCALE);
+        // Fundalul la dimensiunea ecranului este creat o singură dată și partajat de toate stările
+        startbgImg = LoadSave.getStartBackground();
     }
 
     /**
@@ -113,14 +109,14 @@ public class EnterNameOverlay extends State implements Statemethods {
     @Override
     public void draw(Graphics g) {
         // Fundal
-        g.drawImage(startbgImg, startbgX, startbgY, startbgWidth, startbgHeight, null);
+        g.drawImage(startbgImg, 0, 0, null);
         g.drawImage(frameImg, frameX, frameY, frameWidth, frameHeight, null);
         // Buton START GAME
         startButton.draw(g);
         // X (poți desena un X roșu sau doar hitbox)
 
         // Username transparent (doar text, fără dreptunghi)
-        g.setFont(airstrikeFont.deriveFont(36f));
+        g.setFont(FontRegistry.getAirstrikeFont(36f));
         g.setColor(new Color(255, 255, 255, 200)); // alb semi-transparent
         // Poziționează textul în dreptul casetei din imagine
         g.drawString(username.toString(), 775, 550);
@@ -128,7 +124,7 @@ public class EnterNameOverlay extends State implements Statemethods {
         // Draw error message if exists
         if (!errorMessage.isEmpty()) {
             g.setColor(Color.RED);
-            g.setFont(airstrikeFont.deriveFont(24f));
+            g.setFont(FontRegistry.getAirstrikeFont(24f));
             g.drawString(errorMessage, 775, 600);
         }
 
@@ -140,7 +136,7 @@ public class EnterNameOverlay extends State implements Statemethods {
             
             // Draw prompt text
             g.setColor(Color.WHITE);
-            g.setFont(airstrikeFont.deriveFont(20f));
+            g.setFont(FontRegistry.getAirstrikeFont(20f));
             g.drawString("Existing save found:", 775, 530);
             g.drawString("Level: " + existingLevel, 775, 560);
             g.drawString("Score: " + existingScore, 775, 590);
@@ -154,7 +150,7 @@ public class EnterNameOverlay extends State implements Statemethods {
             g.fillRect(noButton.x, noButton.y, noButton.width, noButton.height);
             
             g.setColor(Color.WHITE);
-            g.setFont(airstrikeFont.deriveFont(20f));
+            g.setFont(FontRegistry.getAirstrikeFont(20f));
             g.drawString("YES", yesButton.x + 30, yesButton.y + 25);
             g.drawString("NO", noButton.x + 35, noButton.y + 25);
         }
@@ -351,15 +347,6 @@ public class EnterNameOverlay extends State implements Statemethods {
      * Încarcă fontul personalizat folosit în acest overlay.
      */
     private void loadCustomFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/res/font/airstrikebold.ttf");
-            Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
-            airstrikeFont = baseFont.deriveFont(Font.BOLD, 36f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(baseFont);
-        } catch (Exception e) {
-            e.printStackTrace();
-            airstrikeFont = new Font("Arial", Font.BOLD, 36);
-        }
+        airstrikeFont = FontRegistry.getAirstrikeFont(36f);
     }
 }
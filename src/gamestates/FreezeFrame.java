@@ -0,0 +1,79 @@
+package gamestates;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import main.Game;
+import utilz.LoadSave;
+
+/**
+ * Captură ("cadru înghețat") a lumii de joc, folosită cât timp jocul este în pauză
+ * sau este afișat un overlay (final de nivel, Game Over).
+ * Lumea este desenată o singură dată în captură, eventual întunecată, iar la fiecare
+ * frame ulterior se copiază doar captura, peste care se desenează overlay-ul.
+ */
+public class FreezeFrame {
+
+    /** Imaginea capturată, la dimensiunea ecranului. */
+    private BufferedImage snapshot;
+    /** Indică dacă imaginea capturată este validă. */
+    private volatile boolean valid = false; // Invalidată și de firul actualizărilor
+    /** Culoarea de întunecare aplicată la captura curentă ({@code null} dacă nu s-a aplicat). */
+    private Color capturedDim;
+
+    /**
+     * Verifică dacă există o captură validă, realizată cu aceeași întunecare.
+     *
+     * @param dim Culoarea de întunecare dorită ({@code null} pentru nicio întunecare).
+     * @return {@code true} dacă captura poate fi refolosită.
+     */
+    public boolean isValid(Color dim) {
+        return valid && (dim == null ? capturedDim == null : dim.equals(capturedDim));
+    }
+
+    /**
+     * Capturează lumea de joc și aplică, o singură dată, întunecarea specificată.
+     *
+     * @param worldPainter Funcția care desenează lumea de joc pe contextul grafic primit.
+     * @param dim Culoarea semi-transparentă de întunecare sau {@code null}.
+     */
+    public void capture(Consumer<Graphics> worldPainter, Color dim) {
+        if (snapshot == null) {
+            snapshot = LoadSave.createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+        }
+        Graphics2D g2d = snapshot.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+        g2d.setComposite(AlphaComposite.SrcOver);
+        worldPainter.accept(g2d);
+        if (dim != null) {
+            g2d.setColor(dim);
+            g2d.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+        }
+        g2d.dispose();
+        capturedDim = dim;
+        valid = true;
+    }
+
+    /**
+     * Desenează captura pe ecran.
+     *
+     * @param g Contextul grafic pe care se va desena.
+     */
+    public void draw(Graphics g) {
+        g.drawImage(snapshot, 0, 0, null);
+    }
+
+    /**
+     * Invalidează captura, astfel încât următorul cadru înghețat să fie recapturat.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+}
@@ -1,11 +1,10 @@
 package gamestates;
 
-import database.InsertGet;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
+import utilz.FontRegistry;
 import utilz.LoadSave;
 
 /**
@@ -20,6 +19,7 @@ public class GameOverOverlay extends State implements Statemethods {
     private Rectangle retryButtonBounds; // Limitele butonului de reîncercare
     private Rectangle backButtonBounds; // Limitele butonului de întoarcere la meniu
     private Font overlayFont; // Fontul folosit pentru textul din overlay
+    private OverlayScore overlayScore; // Scorul afișat, încărcat o singură dată la deschiderea overlay-ului
     private Playing playing; // Referință la starea de joc 'Playing' pentru a reseta nivelul
     /** Calea către fișierul bazei de date pentru încărcarea scorului. */
     private static final String DB_FILE = "data/gamedatabase.db";
@@ -38,6 +38,7 @@ public class GameOverOverlay extends State implements Statemethods {
         retryButtonBounds = new Rectangle(738,745,367,81); 
         backButtonBounds = new Rectangle(1162, 232, 68, 63); 
         loadCustomFont();
+        overlayScore = new OverlayScore(DB_FILE, playing.getUsername(), "Scor: ");
         this.showDebugHitbox = false; // Implicit, nu afișa hitbox-urile butoanelor
     }
 
@@ -56,16 +57,7 @@ public class GameOverOverlay extends State implements Statemethods {
      * Încarcă fontul personalizat folosit pentru afișarea textului în overlay.
      */
     private void loadCustomFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/res/font/airstrikebold.ttf");
-            Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
-            overlayFont = baseFont.deriveFont(Font.BOLD, 48f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(baseFont);
-        } catch (Exception e) {
-            e.printStackTrace();
-            overlayFont = new Font("Arial", Font.BOLD, 48);
-        }
+        overlayFont = FontRegistry.getAirstrikeFont(48f);
     }
 
     /**
@@ -91,10 +83,9 @@ public class GameOverOverlay extends State implements Statemethods {
             drawBackButton((Graphics2D) g); // Metoda drawBackButton este moștenită din State
             drawRetryButton((Graphics2D) g); // Metodă specifică pentru butonul de reîncercare
         }
-        // Afișează scorul jucătorului din baza de date
-        int score = InsertGet.LoadScore(DB_FILE, playing.getUsername());
-        String scoreText = "Scor: " + score;
-        g.setFont(overlayFont.deriveFont(48f));
+        // Afișează scorul jucătorului din baza de date, încărcat la deschiderea overlay-ului
+        String scoreText = overlayScore.getText();
+        g.setFont(overlayFont);
         g.setColor(Color.YELLOW);
         FontMetrics fm = g.getFontMetrics();
         int textWidth = fm.stringWidth(scoreText);
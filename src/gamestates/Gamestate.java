@@ -17,9 +17,11 @@ public enum Gamestate {
     LOADGAME, 
     /** Starea pentru afișarea clasamentului (leaderboard). */
     LEADERBOARD,
-    /** Starea inițială sau pentru introducerea numelui jucătorului. */
-    ENTER_NAME;
+    /** Starea pentru introducerea numelui jucătorului, afișată după încărcarea resurselor. */
+    ENTER_NAME,
+    /** Starea inițială: ecranul de încărcare, afișat cât timp resursele sunt preîncărcate. */
+    LOADING;
 
     /** Starea curentă a jocului. Aceasta determină ce logică și randare sunt active. */
-    public static Gamestate state = ENTER_NAME;
+    public static Gamestate state = LOADING;
 }
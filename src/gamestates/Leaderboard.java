@@ -6,11 +6,12 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import main.Game;
+import utilz.BitmapFont;
+import utilz.FontRegistry;
 import utilz.LoadSave;
 
 /**
@@ -23,10 +24,13 @@ public class Leaderboard extends State implements Statemethods{
     private BufferedImage backgroundImg; // Imaginea de fundal specifică clasamentului (cadrul)
     private int menuX, menuY, menuWidth, menuHeight; // Coordonate și dimensiuni pentru cadrul clasamentului
     private BufferedImage startbgImg; // Imaginea de fundal generală (aceeași ca la EnterName)
-    private int startbgX, startbgY, startbgWidth, startbgHeight; // Coordonate și dimensiuni pentru fundalul general
     private Rectangle mainMenuButtonBounds; // Limitele butonului de întoarcere la meniul principal
     private BufferedImage playerBoxImg; // Imaginea pentru fiecare intrare (cutie) din clasament
     private Font airstrikeFont; // Fontul personalizat pentru text
+    private BitmapFont rankFont; // Fontul bitmap pentru poziția în clasament
+    private BitmapFont nameFont; // Fontul bitmap pentru numele jucătorului
+    private BitmapFont statsFont; // Fontul bitmap pentru scor și nivel
+    private BitmapFont detailsFont; // Fontul bitmap pentru viață și nuci de cocos
     private BufferedImage knobImg; // Imaginea pentru "butonul" barei de derulare
     private BufferedImage grooverImg; // Imaginea pentru "șanțul" barei de derulare
     /** Offset-ul curent de derulare verticală a listei. */
@@ -134,27 +138,19 @@ public class Leaderboard extends State implements Statemethods{
      * Încarcă fontul personalizat folosit pentru textul din clasament.
      */
     private void loadCustomFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/res/font/airstrikebold.ttf");
-            Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
-            airstrikeFont = baseFont.deriveFont(Font.BOLD, 36f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(baseFont);
-        } catch (Exception e) {
-            e.printStackTrace();
-            airstrikeFont = new Font("Arial", Font.BOLD, 36);
-        }
+        airstrikeFont = FontRegistry.getAirstrikeFont(36f);
+        rankFont = BitmapFont.get(75f, Color.WHITE);
+        nameFont = BitmapFont.get(36f, Color.WHITE);
+        statsFont = BitmapFont.get(28f, Color.WHITE);
+        detailsFont = BitmapFont.get(20f, Color.WHITE);
     }
 
     /**
      * Încarcă și configurează imaginea de fundal generală.
      */
     private void loadStartImg() {
-        startbgImg = LoadSave.getSpriteAtlas(LoadSave.START_BACKGROUND);
-        startbgWidth = (int) (startbgImg.getWidth() * Game.SCALE);
-        startbgHeight = (int) (startbgImg.getHeight() * Game.SCALE);
-        startbgX = Game.GAME_WIDTH / 2 - startbgWidth / 2;
-        startbgY = (int) (0 * Game.SCALE);
+        // Fundalul la dimensiunea ecranului este creat o singură dată și partajat de toate stările
+        startbgImg = LoadSave.getStartBackground();
     }
 
     /**
@@ -195,7 +191,7 @@ public class Leaderboard extends State implements Statemethods{
             g2d.setColor(new Color(0, 0, 0, 0));
             g2d.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
             
-            g2d.drawImage(startbgImg, startbgX, startbgY, startbgWidth, startbgHeight, null);
+            g2d.drawImage(startbgImg, 0, 0, null);
             g2d.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
 
             // Draw player boxes
@@ -213,24 +209,23 @@ public class Leaderboard extends State implements Statemethods{
                 g2d.drawImage(playerBoxImg, boxX, y, null);
 
                 // Rank
-                g2d.setFont(airstrikeFont.deriveFont(75f));
-                g2d.setColor(Color.WHITE);
-                g2d.drawString(String.valueOf(i + 1), boxX + 50, y + 90);
+                rankFont.drawInt(g2d, i + 1, boxX + 50, y + 90);
 
                 // Name
-                g2d.setFont(airstrikeFont.deriveFont(36f));
-                g2d.setColor(Color.WHITE);
-                g2d.drawString(player.username, boxX + 130, y + 65);
+                nameFont.drawString(g2d, player.username, boxX + 130, y + 65);
 
                 // Score and Level
-                g2d.setFont(airstrikeFont.deriveFont(28f));
-                g2d.drawString("Score: " + player.score, boxX + 130, y + 95);
-                g2d.drawString("Level: " + player.level, boxX + 300, y + 95);
+                int textX = statsFont.drawString(g2d, "Score: ", boxX + 130, y + 95);
+                statsFont.drawInt(g2d, player.score, textX, y + 95);
+                textX = statsFont.drawString(g2d, "Level: ", boxX + 300, y + 95);
+                statsFont.drawInt(g2d, player.level, textX, y + 95);
 
                 // Health and Coconuts
-                g2d.setFont(airstrikeFont.deriveFont(20f));
-                g2d.drawString("Health: " + player.health + "%", boxX + 470, y + 65);
-                g2d.drawString("Coconuts: " + player.coconuts, boxX + 470, y + 85);
+                textX = detailsFont.drawString(g2d, "Health: ", boxX + 470, y + 65);
+                textX = detailsFont.drawInt(g2d, player.health, textX, y + 65);
+                detailsFont.drawString(g2d, "%", textX, y + 65);
+                textX = detailsFont.drawString(g2d, "Coconuts: ", boxX + 470, y + 85);
+                detailsFont.drawInt(g2d, player.coconuts, textX, y + 85);
             }
             g2d.setClip(null);
 
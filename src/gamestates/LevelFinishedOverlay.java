@@ -5,7 +5,7 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
+import utilz.FontRegistry;
 import utilz.LoadSave;
 
 /**
@@ -20,6 +20,7 @@ public class LevelFinishedOverlay extends State implements Statemethods {
     private Rectangle nextLevelButtonBounds; // Limitele butonului pentru nivelul următor
     private Rectangle menuButtonBounds; // Limitele butonului de întoarcere la meniu (butonul "X")
     private Font overlayFont; // Fontul folosit pentru textul din overlay
+    private OverlayScore overlayScore; // Scorul afișat, încărcat o singură dată la deschiderea overlay-ului
     private Playing playing; // Referință la starea de joc 'Playing'
     /** Calea către fișierul bazei de date pentru salvarea/încărcarea scorului. */
     private static final String DB_FILE = "data/gamedatabase.db";
@@ -35,6 +36,7 @@ public class LevelFinishedOverlay extends State implements Statemethods {
         loadBackground();
         loadButtons();
         loadCustomFont();
+        overlayScore = new OverlayScore(DB_FILE, playing.getUsername(), "Score: ");
     }
 
     /**
@@ -61,16 +63,7 @@ public class LevelFinishedOverlay extends State implements Statemethods {
      * Încarcă fontul personalizat folosit pentru afișarea textului în overlay.
      */
     private void loadCustomFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/res/font/airstrikebold.ttf");
-            Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
-            overlayFont = baseFont.deriveFont(Font.BOLD, 48f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(baseFont);
-        } catch (Exception e) {
-            e.printStackTrace();
-            overlayFont = new Font("Arial", Font.BOLD, 48);
-        }
+        overlayFont = FontRegistry.getAirstrikeFont(48f);
     }
 
     /**
@@ -91,10 +84,9 @@ public class LevelFinishedOverlay extends State implements Statemethods {
     public void draw(Graphics g) {
         g.drawImage(backgroundImg, bgX, bgY, bgWidth, bgHeight, null);
 
-        // Obținem scorul din baza de date
-        int score = InsertGet.LoadScore(DB_FILE, playing.getUsername());
-        String scoreText = "Score: " + score;
-        g.setFont(overlayFont.deriveFont(48f));
+        // Scorul este încărcat asincron la deschiderea overlay-ului, nu la fiecare frame
+        String scoreText = overlayScore.getText();
+        g.setFont(overlayFont);
         g.setColor(Color.YELLOW);
 
         FontMetrics fm = g.getFontMetrics();
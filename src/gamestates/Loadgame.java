@@ -21,7 +21,6 @@ public class Loadgame extends State implements Statemethods {
     private BufferedImage backgroundImg; // Imaginea cadrului specific ecranului de încărcare
     private int menuX, menuY, menuWidth, menuHeight; // Coordonate și dimensiuni pentru cadrul de încărcare
     private BufferedImage startbgImg; // Imaginea de fundal generală
-    private int startbgX, startbgY, startbgWidth, startbgHeight; // Coordonate și dimensiuni pentru fundalul general
     private Rectangle backButtonBounds; // Limitele butonului "X" de închidere/înapoi
     private Gamestate previousState = null; // Starea anterioară a jocului
     // private boolean needsRedraw = true; // Flag pentru redesenare (neutilizat activ în codul furnizat, desenarea se face mereu)
@@ -45,11 +44,8 @@ public class Loadgame extends State implements Statemethods {
      * Încarcă și configurează imaginea de fundal generală.
      */
     private void loadStartImg() {
-        startbgImg = LoadSave.getSpriteAtlas(LoadSave.START_BACKGROUND);
-        startbgWidth = (int) (startbgImg.getWidth() * Game.SCALE);
-        startbgHeight = (int) (startbgImg.getHeight() * Game.SCALE);
-        startbgX = Game.GAME_WIDTH / 2 - startbgWidth / 2;
-        startbgY = (int) (0 * Game.SCALE);
+        // Fundalul la dimensiunea ecranului este creat o singură dată și partajat de toate stările
+        startbgImg = LoadSave.getStartBackground();
     }
 
     /**
@@ -102,7 +98,7 @@ public class Loadgame extends State implements Statemethods {
      */
     @Override
     public void draw(Graphics g) {
-        g.drawImage(startbgImg, startbgX, startbgY, startbgWidth, startbgHeight, null);
+        g.drawImage(startbgImg, 0, 0, null);
         g.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
         for (MenuButton mb : buttons)
             if (mb != null)
@@ -0,0 +1,95 @@
+package gamestates;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+
+import main.Game;
+import ui.ProgressBar;
+import utilz.AssetPreloader;
+import utilz.BitmapFont;
+
+/**
+ * Reprezintă ecranul de încărcare afișat la pornirea jocului.
+ * Cât timp {@link AssetPreloader} decodează resursele și construiește stările de joc,
+ * afișează progresul real al încărcării într-o {@link ProgressBar}.
+ * La terminarea încărcării, jocul trece în starea de introducere a numelui.
+ * Extinde {@link State} și implementează {@link Statemethods}.
+ */
+public class Loading extends State implements Statemethods {
+
+    /** Lățimea barei de progres. */
+    private static final int BAR_WIDTH = (int) (800 * Game.SCALE);
+    /** Înălțimea barei de progres. */
+    private static final int BAR_HEIGHT = (int) (40 * Game.SCALE);
+
+    /** Încărcătorul ale cărui progres este afișat. */
+    private final AssetPreloader preloader;
+    /** Bara care afișează progresul încărcării. */
+    private final ProgressBar progressBar;
+    /** Fontul pentru textul de pe ecranul de încărcare. */
+    private final BitmapFont font;
+
+    /**
+     * Constructor pentru starea de încărcare.
+     *
+     * @param game Referință la instanța principală a jocului {@link Game}.
+     * @param preloader Încărcătorul resurselor, deja configurat.
+     */
+    public Loading(Game game, AssetPreloader preloader) {
+        super(game);
+        this.preloader = preloader;
+        this.progressBar = new ProgressBar(Game.GAME_WIDTH / 2 - BAR_WIDTH / 2, Game.GAME_HEIGHT / 2, BAR_WIDTH, BAR_HEIGHT);
+        this.font = BitmapFont.get(36f, Color.WHITE);
+    }
+
+    /**
+     * Actualizează progresul afișat și, la terminarea încărcării, trece în starea următoare.
+     */
+    @Override
+    public void update() {
+        progressBar.setProgress(preloader.getProgress());
+        if (preloader.isDone()) {
+            Gamestate.state = Gamestate.ENTER_NAME;
+        }
+    }
+
+    /**
+     * Desenează ecranul de încărcare: fundalul, textul și bara de progres.
+     *
+     * @param g Contextul grafic {@link Graphics} pe care se va desena.
+     */
+    @Override
+    public void draw(Graphics g) {
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+        int textX = Game.GAME_WIDTH / 2 - BAR_WIDTH / 2;
+        int textY = Game.GAME_HEIGHT / 2 - (int) (20 * Game.SCALE);
+        textX = font.drawString(g, "Se incarca... ", textX, textY);
+        textX = font.drawInt(g, (int) (progressBar.getProgress() * 100), textX, textY);
+        font.drawString(g, "%", textX, textY);
+        progressBar.draw(g);
+    }
+
+    @Override
+    public void mouseClicked(MouseEvent e) {}
+
+    @Override
+    public void mousePressed(MouseEvent e) {}
+
+    @Override
+    public void mouseReleased(MouseEvent e) {}
+
+    @Override
+    public void mouseMoved(MouseEvent e) {}
+
+    @Override
+    public void mouseDragged(MouseEvent e) {}
+
+    @Override
+    public void keyPressed(KeyEvent e) {}
+
+    @Override
+    public void keyReleased(KeyEvent e) {}
+}
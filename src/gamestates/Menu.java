@@ -24,7 +24,6 @@ public class Menu extends State implements Statemethods {
     private BufferedImage backgroundImg; // Imaginea specifică a meniului (cadrul cu butoane)
     private int menuX, menuY, menuWidth, menuHeight; // Coordonate și dimensiuni pentru cadrul meniului
     private BufferedImage startbgImg; // Imaginea de fundal generală
-    private int startbgX, startbgY, startbgWidth, startbgHeight; // Coordonate și dimensiuni pentru fundalul general
     private Rectangle backButtonBounds; // Limitele butonului "X" de închidere/înapoi (poate fi pentru revenire la EnterName)
     private Gamestate previousState = null; // Starea anterioară a jocului
     // private boolean needsRedraw = true; // Flag pentru redesenare (neutilizat activ în codul furnizat)
@@ -47,11 +46,8 @@ public class Menu extends State implements Statemethods {
      * Încarcă și configurează imaginea de fundal generală.
      */
     private void loadStartImg() {
-        startbgImg = LoadSave.getSpriteAtlas(LoadSave.START_BACKGROUND);
-        startbgWidth = (int) (startbgImg.getWidth() * Game.SCALE);
-        startbgHeight = (int) (startbgImg.getHeight() * Game.SCALE);
-        startbgX = Game.GAME_WIDTH / 2 - startbgWidth / 2;
-        startbgY = (int) (0 * Game.SCALE);
+        // Fundalul la dimensiunea ecranului este creat o singură dată și partajat de toate stările
+        startbgImg = LoadSave.getStartBackground();
     }
 
     /**
@@ -93,7 +89,7 @@ public class Menu extends State implements Statemethods {
      */
     @Override
     public void draw(Graphics g) {
-        g.drawImage(startbgImg, startbgX, startbgY, startbgWidth, startbgHeight, null);
+        g.drawImage(startbgImg, 0, 0, null);
         g.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
         for (MenuButton mb : buttons)
             mb.draw(g);
@@ -4,8 +4,8 @@ import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import main.Game;
+import utilz.FontRegistry;
 import utilz.LoadSave;
 
 /**
@@ -17,7 +17,6 @@ public class Options extends State implements Statemethods {
     private BufferedImage backgroundImg; // Imaginea specifică a meniului de opțiuni (cadrul)
     private int menuX, menuY, menuWidth, menuHeight; // Coordonate și dimensiuni pentru cadrul meniului
     private BufferedImage startbgImg; // Imaginea de fundal generală
-    private int startbgX, startbgY, startbgWidth, startbgHeight; // Coordonate și dimensiuni pentru fundalul general
     private Rectangle mainMenuButtonBounds; // Limitele butonului de întoarcere la meniul principal (butonul "X")
     /** Un buffer grafic pentru a desena conținutul înainte de a-l afișa pe ecran. */
     private BufferedImage buffer;
@@ -66,11 +65,8 @@ public class Options extends State implements Statemethods {
      * Încarcă și configurează imaginea de fundal generală.
      */
     private void loadStartImg() {
-        startbgImg = LoadSave.getSpriteAtlas(LoadSave.START_BACKGROUND);
-        startbgWidth = (int) (startbgImg.getWidth() * Game.SCALE);
-        startbgHeight = (int) (startbgImg.getHeight() * Game.SCALE);
-        startbgX = Game.GAME_WIDTH / 2 - startbgWidth / 2;
-        startbgY = (int) (0 * Game.SCALE);
+        // Fundalul la dimensiunea ecranului este creat o singură dată și partajat de toate stările
+        startbgImg = LoadSave.getStartBackground();
     }
 
     /**
@@ -96,16 +92,7 @@ public class Options extends State implements Statemethods {
      * Încarcă fontul personalizat folosit pentru textul din meniul de opțiuni.
      */
     private void loadCustomFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/res/font/airstrikebold.ttf");
-            Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
-            airstrikeFont = baseFont.deriveFont(Font.BOLD, 36f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(baseFont);
-        } catch (Exception e) {
-            e.printStackTrace();
-            airstrikeFont = new Font("Arial", Font.BOLD, 36);
-        }
+        airstrikeFont = FontRegistry.getAirstrikeFont(36f);
     }
 
     /**
@@ -134,7 +121,7 @@ public class Options extends State implements Statemethods {
             g2d.setColor(new Color(0, 0, 0, 0));
             g2d.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
             
-            g2d.drawImage(startbgImg, startbgX, startbgY, startbgWidth, startbgHeight, null);
+            g2d.drawImage(startbgImg, 0, 0, null);
             g2d.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
 
             // Draw slider labels
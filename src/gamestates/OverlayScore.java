@@ -0,0 +1,82 @@
+package gamestates;
+
+import database.InsertGet;
+
+/**
+ * Modelul scorului afișat de overlay-urile de final de nivel și Game Over.
+ * Scorul salvat al jucătorului este citit o singură dată din baza de date, pe un fir de execuție separat,
+ * la deschiderea overlay-ului; până la finalizarea citirii se afișează un text provizoriu.
+ * Desenarea overlay-ului nu accesează astfel niciodată baza de date, iar valoarea afișată nu se schimbă
+ * după ce scorul a fost citit.
+ */
+public class OverlayScore {
+
+    /** Textul afișat în locul scorului până la finalizarea citirii. */
+    private static final String PLACEHOLDER = "...";
+
+    /** Textul afișat: prefixul urmat de scor sau de {@link #PLACEHOLDER}. */
+    private volatile String text;
+    /** Scorul citit, valid doar după finalizarea citirii. */
+    private volatile int score;
+    /** Indică dacă citirea scorului s-a terminat. */
+    private volatile boolean loaded;
+
+    /**
+     * Creează modelul și pornește citirea scorului salvat în baza de date.
+     *
+     * @param dbFile Calea către fișierul bazei de date.
+     * @param username Numele de utilizator al cărui scor se citește.
+     * @param prefix Prefixul textului afișat (de ex., "Score: ").
+     */
+    public OverlayScore(String dbFile, String username, String prefix) {
+        this.text = prefix + PLACEHOLDER;
+        loadAsync(dbFile, username, prefix);
+    }
+
+    /**
+     * Citește scorul din baza de date pe un fir de execuție separat.
+     *
+     * @param dbFile Calea către fișierul bazei de date.
+     * @param username Numele de utilizator al cărui scor se citește.
+     * @param prefix Prefixul textului afișat.
+     */
+    private void loadAsync(String dbFile, String username, String prefix) {
+        if (username == null) return;
+        Thread loader = new Thread(() -> {
+            try {
+                int value = InsertGet.LoadScore(dbFile, username);
+                score = value;
+                loaded = true;
+                text = prefix + value;
+            } catch (Exception e) {
+                System.err.println("Eroare la încărcarea scorului pentru overlay: " + e.getMessage());
+            }
+        }, "overlay-score-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Returnează scorul citit din baza de date.
+     * @return Scorul sau 0 dacă citirea nu s-a terminat încă.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Indică dacă scorul a fost citit din baza de date.
+     * @return {@code true} după finalizarea citirii.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returnează textul de afișat (prefix + scor, sau prefix + text provizoriu până la citirea scorului).
+     * @return Textul scorului.
+     */
+    public String getText() {
+        return text;
+    }
+}
@@ -7,16 +7,22 @@ import entities.Gem;
 import entities.Banana;
 import entities.Coconut;
 import entities.Projectile;
+import entities.WorldSnapshot;
 import java.util.ArrayList;
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.InputStream;
 import levels.LevelManager;
+import levels.LevelRenderState;
 import main.Game;
+import utilz.BitmapFont;
+import utilz.Constants;
+import utilz.FontRegistry;
 import utilz.LoadSave;
+import utilz.SimulationClock;
+import utilz.TripleBuffer;
 import utilz.Enemy_Animation_Rows;
 
 /**
@@ -29,7 +35,7 @@ public class Playing extends State implements Statemethods {
     private Player player; // Instanța jucătorului
     private LevelManager levelManager; // Managerul pentru niveluri
     private EnemyManager enemyManager; // Managerul pentru inamici
-    private boolean paused = false; // Flag pentru starea de pauză a jocului
+    private volatile boolean paused = false; // Flag pentru starea de pauză a jocului
     private String playerName = ""; // Numele jucătorului (poate fi setat din meniu/overlay)
     private String username = ""; // Numele de utilizator curent al sesiunii
 
@@ -39,12 +45,12 @@ public class Playing extends State implements Statemethods {
     private int leftBorder = (int) (0.2 * Game.GAME_WIDTH);
     /** Limita dreaptă a ecranului pentru inițierea scrolling-ului. */
     private int rightBorder = (int) (0.8 * Game.GAME_WIDTH);
-    /** Lățimea totală a nivelului curent, în tile-uri. */
-    private int lvlTilesWide;
-    /** Offset-ul maxim posibil al tile-urilor pentru scrolling. */
-    private int maxTilesOffset;
-    /** Offset-ul maxim posibil al nivelului în pixeli pentru scrolling. */
-    private int maxLvlOffsetX;
+
+    /**
+     * Listele de desenat ale lumii: scrise de firul actualizărilor la finalul fiecărei actualizări
+     * și desenate de firul de randare fără a mai citi entitățile (vezi {@link WorldSnapshot}).
+     */
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new);
     
     private BufferedImage gameUI; // Imaginea pentru interfața utilizator (HUD)
     private BufferedImage coconutIcon; // Iconița pentru nuci de cocos în HUD
@@ -56,6 +62,18 @@ public class Playing extends State implements Statemethods {
     private int elapsedSeconds;  
 
     private Font airstrikeFont; // Fontul personalizat pentru HUD
+    private BitmapFont hudHealthFont; // Fontul bitmap pentru procentul de viață
+    private BitmapFont hudCoconutFont; // Fontul bitmap pentru numărul de nuci de cocos
+    private BitmapFont hudTimerFont; // Fontul bitmap pentru cronometru
+
+    /** Stratul pre-desenat al HUD-ului (cadrul interfeței, textele și iconițele). */
+    private BufferedImage hudLayer;
+    /** Procentul de viață afișat în {@link #hudLayer} (-1 dacă stratul trebuie redesenat). */
+    private int hudHealthPercent = -1;
+    /** Numărul de nuci de cocos afișat în {@link #hudLayer}. */
+    private int hudCoconuts = -1;
+    /** Numărul de secunde afișat în {@link #hudLayer}. */
+    private int hudSeconds = -1;
 
     /** Indică dacă cronometrul nivelului a pornit. */
     private boolean timerStarted = false;
@@ -66,12 +84,18 @@ public class Playing extends State implements Statemethods {
 
     // Flag-uri și obiecte pentru overlay-urile de final de nivel și game over
     // private boolean isLevelFinished = false; // Neutilizat direct, se folosește levelFinished
-    private LevelFinishedOverlay levelFinishedOverlay;
+    private volatile LevelFinishedOverlay levelFinishedOverlay;
     /** Indică dacă nivelul curent a fost finalizat. */
-    private boolean levelFinished = false;
+    private volatile boolean levelFinished = false;
     /** Indică dacă jocul s-a terminat (Game Over). */
-    private boolean gameOver = false;
-    private GameOverOverlay gameOverOverlay;
+    private volatile boolean gameOver = false;
+    private volatile GameOverOverlay gameOverOverlay;
+    /** Culoarea de întunecare a lumii de joc sub overlay-uri. */
+    private static final Color OVERLAY_DIM_COLOR = new Color(0, 0, 0, 120);
+    /** Durata unei actualizări logice, în nanosecunde (pentru interpolarea desenării). */
+    private static final double NANOS_PER_TICK = 1_000_000_000.0 / SimulationClock.UPS;
+    /** Captura lumii de joc afișată cât timp jocul este în pauză sau un overlay este activ. */
+    private final FreezeFrame freezeFrame = new FreezeFrame();
 
     // private boolean showDebugHitbox = false; // Moștenit din State
 
@@ -114,15 +138,10 @@ public class Playing extends State implements Statemethods {
             player.setJumpSlamUnlocked(false);
         }
         
-        lvlTilesWide = levelManager.getCurrentLevel().getLevelData()[0].length;
-        maxTilesOffset = Math.max(0, lvlTilesWide - Game.TILES_IN_WIDTH);
-        maxLvlOffsetX = maxTilesOffset * Game.TILES_SIZE;
-        
-        System.out.println("Level width in tiles: " + lvlTilesWide);
-        System.out.println("Max tiles offset: " + maxTilesOffset);
-        System.out.println("Max level offset X: " + maxLvlOffsetX);
+        System.out.println("Level width in tiles: " + levelManager.getCurrentLevel().getLevelData()[0].length);
+        System.out.println("Max level offset X: " + levelManager.getRenderState().getMaxLvlOffsetX());
 
-        gameUI = LoadSave.getSpriteAtlas(LoadSave.GAME_UI);
+        gameUI = LoadSave.toScreenImage(LoadSave.getSpriteAtlas(LoadSave.GAME_UI));
         loadCustomFont();
         coconutIcon = LoadSave.COCONUT_IMAGE; 
         crystalIcon = LoadSave.getSpriteAtlas("crystal.png");
@@ -138,6 +157,7 @@ public class Playing extends State implements Statemethods {
     @Override
     public void update() {
         if (!paused) {
+            player.savePreviousPosition(); // Pentru interpolarea desenării între actualizări
             levelManager.update();
             player.update();
             checkPlayerAttackHits();
@@ -145,6 +165,7 @@ public class Playing extends State implements Statemethods {
             updateBananas(); 
             updateCoconuts(); 
             checkGemCollision(); 
+            checkLevelPrefetch();
             checkBananaCollision(); 
             checkCoconutCollision(); 
             checkPlayerThrow(); 
@@ -156,6 +177,25 @@ public class Playing extends State implements Statemethods {
                 showGameOverOverlay();
             }
         }
+        publishSnapshot();
+    }
+
+    /**
+     * Scrie starea entităților de desenat într-o listă nouă și o publică pentru firul de randare.
+     * Este apelată și în pauză, ca schimbările de nivel să ajungă la desenare.
+     */
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.clear(game.getTickNanos());
+        snapshot.setLevel(levelManager.getRenderState());
+        snapshot.setHud((int)((player.getCurrentHealth() / (float)player.getMaxHealth()) * 100),
+                currentCoconuts, elapsedSeconds);
+        snapshot.setCamera(player.getHitbox().x + player.getHitbox().width / 2, player.getRenderOffsetX(0));
+        enemyManager.addTo(snapshot);
+        player.addTo(snapshot);
+        addBananas(snapshot);
+        addCoconuts(snapshot);
+        snapshots.publish();
     }
     
     /**
@@ -235,6 +275,20 @@ public class Playing extends State implements Statemethods {
         }
     }
 
+    /**
+     * Pornește pregătirea în fundal a nivelului următor când jucătorul se apropie de capătul
+     * nivelului sau când boss-ul a fost învins (a apărut gem-ul), astfel încât trecerea
+     * la nivelul următor să nu mai blocheze jocul.
+     */
+    private void checkLevelPrefetch() {
+        int[][] lvlData = levelManager.getCurrentLevel().getLevelData();
+        int levelEndX = (lvlData.length > 0 ? lvlData[0].length : 0) * Game.TILES_SIZE;
+        boolean nearEnd = player.getHitbox().x > levelEndX - Constants.Cache.LEVEL_PREFETCH_DISTANCE_TILES * Game.TILES_SIZE;
+        if (nearEnd || !enemyManager.getGems().isEmpty()) {
+            levelManager.prefetchNextLevel();
+        }
+    }
+
     /**
      * Verifică coliziunea jucătorului cu gem-urile (pietre prețioase).
      * La coliziune, activează overlay-ul de final de nivel.
@@ -394,7 +448,19 @@ public class Playing extends State implements Statemethods {
      * offset-ul de scrolling al nivelului ({@code xLvlOffset}).
      */
     private void checkCloseToBorder() {
-        int playerCenterX = (int) (player.getHitbox().x + player.getHitbox().width / 2);
+        xLvlOffset = computeLvlOffset(player.getHitbox().x + player.getHitbox().width / 2,
+                levelManager.getRenderState().getMaxLvlOffsetX());
+    }
+
+    /**
+     * Calculează offset-ul de scrolling care centrează camera pe o poziție, limitat la dimensiunile nivelului.
+     *
+     * @param centerX Coordonata x (în nivel) pe care se centrează camera.
+     * @param maxLvlOffsetX Offset-ul maxim al nivelului, în pixeli.
+     * @return Offset-ul de scrolling.
+     */
+    private static int computeLvlOffset(float centerX, int maxLvlOffsetX) {
+        int playerCenterX = (int) centerX;
         int newX = playerCenterX - Game.GAME_WIDTH / 2; // Calculează noul offset dorit
         // Limitează offset-ul la dimensiunile nivelului
         if (newX > maxLvlOffsetX) {
@@ -403,57 +469,81 @@ public class Playing extends State implements Statemethods {
         if (newX < 0) {
             newX = 0;
         }
-        xLvlOffset = newX;
+        return newX;
     }
 
     /**
      * Desenează toate elementele stării de joc, inclusiv nivelul, inamicii, jucătorul și HUD-ul.
      * De asemenea, desenează overlay-urile de final de nivel sau game over, dacă sunt active.
+     * Cât timp jocul este în pauză sau un overlay este activ, lumea nu mai este redesenată:
+     * se folosește o captură a ei (întunecată o singură dată pentru overlay-uri), vezi {@link FreezeFrame}.
+     * Entitățile sunt desenate din ultima listă publicată de firul actualizărilor, nu direct din entități.
      *
      * @param g Contextul grafic {@link Graphics} pe care se va desena.
      */
     @Override
     public void draw(Graphics g) {
-        levelManager.draw(g, xLvlOffset);
-        enemyManager.draw(g, xLvlOffset);
-        player.render(g, xLvlOffset);
-        drawBananas(g, xLvlOffset); 
-        drawCoconuts(g, xLvlOffset); 
-
-        g.drawImage(gameUI, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-        drawHUD(g);
+        WorldSnapshot snapshot = snapshots.getReadBuffer(); // Ultima listă completă, fără blocări
+        // Overlay-urile sunt înlocuite de firul actualizărilor: fiecare este citit o singură dată
+        LevelFinishedOverlay finishedOverlay = levelFinished ? levelFinishedOverlay : null;
+        GameOverOverlay overOverlay = gameOver ? gameOverOverlay : null;
+        boolean overlayActive = finishedOverlay != null || overOverlay != null;
+        if (paused || overlayActive) {
+            Color dim = overlayActive ? OVERLAY_DIM_COLOR : null; // Fundal semi-transparent doar pentru overlay-uri
+            if (!freezeFrame.isValid(dim)) {
+                freezeFrame.capture(frame -> drawWorld(frame, snapshot, 1f), dim); // Lumea oprită: pozițiile curente
+            }
+            freezeFrame.draw(g);
+        } else {
+            freezeFrame.invalidate();
+            drawWorld(g, snapshot, snapshot.getAlpha(System.nanoTime(), NANOS_PER_TICK));
+        }
 
-        if (levelFinished && levelFinishedOverlay != null) {
-            g.setColor(new Color(0, 0, 0, 120)); // Fundal semi-transparent
-            g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
-            levelFinishedOverlay.draw(g);
+        if (finishedOverlay != null) {
+            finishedOverlay.draw(g);
         }
-        if (gameOver && gameOverOverlay != null) {
-            g.setColor(new Color(0, 0, 0, 120)); // Fundal semi-transparent
-            g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
-            gameOverOverlay.draw(g);
+        if (overOverlay != null) {
+            overOverlay.draw(g);
         }
     }
 
-    /** Desenează bananele active din nivel. */
-    private void drawBananas(Graphics g, int xLvlOffset) {
+    /**
+     * Desenează lumea de joc: nivelul, entitățile din lista publicată și HUD-ul.
+     * Entitățile și camera sunt interpolate între ultimele două actualizări, ca mișcarea să rămână fluidă
+     * chiar dacă frecvența cadrelor diferă de cea a actualizărilor.
+     *
+     * @param g Contextul grafic {@link Graphics} pe care se va desena.
+     * @param snapshot Lista de desenat publicată de ultima actualizare.
+     * @param alpha Fracțiunea scursă din intervalul dintre ultima actualizare și următoarea (între 0 și 1).
+     */
+    private void drawWorld(Graphics g, WorldSnapshot snapshot, float alpha) {
+        LevelRenderState level = snapshot.getLevel();
+        int lvlOffset = computeLvlOffset(snapshot.getCameraX(alpha), level.getMaxLvlOffsetX());
+        levelManager.draw(g, level, lvlOffset);
+        snapshot.draw(g, lvlOffset, alpha);
+
+        drawHUD(g, snapshot);
+    }
+
+    /** Adaugă bananele active din nivel în lista de desenat. */
+    private void addBananas(WorldSnapshot snapshot) {
         if (levelManager.getCurrentLevel() != null && levelManager.getCurrentLevel().getBananas() != null) {
             ArrayList<Banana> bananas = levelManager.getCurrentLevel().getBananas();
             for (Banana banana : bananas) {
                 if (banana.isActive()) {
-                    banana.draw(g, xLvlOffset);
+                    banana.addTo(snapshot);
                 }
             }
         }
     }
 
-    /** Desenează nucile de cocos active din nivel. */
-    private void drawCoconuts(Graphics g, int xLvlOffset) {
+    /** Adaugă nucile de cocos active din nivel în lista de desenat. */
+    private void addCoconuts(WorldSnapshot snapshot) {
         if (levelManager.getCurrentLevel() != null && levelManager.getCurrentLevel().getCoconuts() != null) {
             ArrayList<Coconut> coconuts = levelManager.getCurrentLevel().getCoconuts();
             for (Coconut coconut : coconuts) {
                 if (coconut.isActive()) {
-                    coconut.draw(g, xLvlOffset);
+                    coconut.addTo(snapshot);
                 }
             }
         }
@@ -628,6 +718,7 @@ public class Playing extends State implements Statemethods {
      *                  false pentru o resetare parțială (păstrând scorul, etc. la încărcare).
      */
     public void resetAll(boolean fullReset) {
+        freezeFrame.invalidate();
         if (fullReset) {
             paused = false;
             player.resetHealth();
@@ -676,41 +767,67 @@ public class Playing extends State implements Statemethods {
     /** @return Numele informativ al jucătorului. */
     public String getPlayerName() { return playerName; }
 
-    /** Desenează elementele HUD (Head-Up Display). */
-    private void drawHUD(Graphics g) {
-        int playerHealthPercent = (int)((player.getCurrentHealth() / (float)player.getMaxHealth()) * 100);
-        g.setColor(Color.RED);
-        g.setFont(airstrikeFont.deriveFont(70f));
-        g.drawString(playerHealthPercent + "%", 1378, 985);
+    /**
+     * Desenează elementele HUD (Head-Up Display).
+     * Cadrul interfeței, textele și iconițele sunt păstrate într-un strat pre-desenat,
+     * redesenat doar când viața, numărul de nuci de cocos sau cronometrul se schimbă.
+     * Valorile sunt citite din lista publicată, nu din starea jocului, ca HUD-ul să corespundă lumii desenate.
+     *
+     * @param g Contextul grafic {@link Graphics} pe care se va desena.
+     * @param snapshot Lista de desenat publicată de ultima actualizare.
+     */
+    private void drawHUD(Graphics g, WorldSnapshot snapshot) {
+        int playerHealthPercent = snapshot.getHealthPercent();
+        int coconuts = snapshot.getCoconuts();
+        int seconds = snapshot.getElapsedSeconds();
+        if (hudLayer == null || playerHealthPercent != hudHealthPercent
+                || coconuts != hudCoconuts || seconds != hudSeconds) {
+            redrawHudLayer(playerHealthPercent, coconuts, seconds);
+        }
+        g.drawImage(hudLayer, 0, 0, null);
+
+        if (g instanceof Graphics2D) drawBackButton((Graphics2D) g);
+    }
+
+    /**
+     * Redesenează stratul HUD cu valorile date.
+     * @param playerHealthPercent Procentul de viață al jucătorului.
+     * @param coconuts Numărul de nuci de cocos.
+     * @param seconds Timpul scurs în nivel, în secunde.
+     */
+    private void redrawHudLayer(int playerHealthPercent, int coconuts, int seconds) {
+        if (hudLayer == null) {
+            hudLayer = LoadSave.createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.TRANSLUCENT);
+        }
+        Graphics2D g = hudLayer.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+        g.setComposite(AlphaComposite.SrcOver);
+
+        g.drawImage(gameUI, 0, 0, null);
+
+        int percentX = hudHealthFont.drawInt(g, playerHealthPercent, 1378, 985);
+        hudHealthFont.drawString(g, "%", percentX, 985);
 
-        g.setColor(Color.WHITE);
-        g.drawString(String.valueOf(currentCoconuts), 1615, 990);
+        hudCoconutFont.drawInt(g, coconuts, 1615, 990);
 
         g.drawImage(coconutIcon, 1697, 957, 43, 29, null);
         g.drawImage(crystalIcon, 1792, 957, 39, 31, null);
 
-        int minutes = elapsedSeconds / 60;
-        int seconds = elapsedSeconds % 60;
-        String timeFormatted = String.format("%02d:%02d", minutes, seconds);
-        g.setColor(Color.WHITE);
-        g.setFont(airstrikeFont.deriveFont(72f));
-        g.drawString(timeFormatted, 1440, 100);
+        hudTimerFont.drawTime(g, seconds, 1440, 100);
+        g.dispose();
 
-        if (g instanceof Graphics2D) drawBackButton((Graphics2D) g);
+        hudHealthPercent = playerHealthPercent;
+        hudCoconuts = coconuts;
+        hudSeconds = seconds;
     }
 
     /** Încarcă fontul personalizat. */
     private void loadCustomFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/res/font/airstrikebold.ttf");
-            Font baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
-            airstrikeFont = baseFont.deriveFont(Font.BOLD, 36f);
-            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-            ge.registerFont(baseFont);
-        } catch (Exception e) {
-            e.printStackTrace();
-            airstrikeFont = new Font("Arial", Font.BOLD, 36);
-        }
+        airstrikeFont = FontRegistry.getAirstrikeFont(36f);
+        hudHealthFont = BitmapFont.get(70f, Color.RED);
+        hudCoconutFont = BitmapFont.get(70f, Color.WHITE);
+        hudTimerFont = BitmapFont.get(72f, Color.WHITE);
     }
 
     /** Desenează hitbox-ul butonului "Înapoi" din HUD (dacă showDebugHitbox este true). */
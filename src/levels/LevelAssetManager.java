@@ -0,0 +1,176 @@
+package levels;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Gestionează resursele rezidente în memorie ale nivelurilor (fundaluri, tileset-uri scalate,
+ * seturi de animații ale inamicilor).
+ * <p>
+ * Resursele nivelului curent sunt reținute cât timp nivelul este activ. La trecerea la alt nivel,
+ * resursele nivelului anterior care nu mai sunt folosite sunt mutate într-o listă LRU, păstrată
+ * cât timp memoria lor totală nu depășește bugetul configurat; cele mai vechi sunt eliberate primele.
+ * Revenirea la un nivel recent își refolosește resursele, fără a le decoda din nou.
+ * <p>
+ * Utilizare: {@link #beginLevel()}, apoi {@link #acquire} pentru fiecare resursă a noului nivel,
+ * apoi {@link #endLevel()}. Toate apelurile se fac din firul de execuție care încarcă nivelurile.
+ */
+public class LevelAssetManager {
+
+    /** O resursă rezidentă: valoarea, memoria estimată și acțiunea care o eliberează. */
+    private static class Resident {
+        final Object value;
+        final long bytes;
+        final Runnable release;
+
+        Resident(Object value, long bytes, Runnable release) {
+            this.value = value;
+            this.bytes = bytes;
+            this.release = release;
+        }
+    }
+
+    /** Bugetul de memorie pentru resursele nivelurilor inactive, în octeți. */
+    private final long budgetBytes;
+    /** Resursele nivelului curent. */
+    private Map<String, Resident> current = new LinkedHashMap<>();
+    /** Resursele nivelului anterior, în timpul încărcării unui nivel nou. */
+    private Map<String, Resident> previous = new LinkedHashMap<>();
+    /** Resursele nivelurilor inactive, de la cea mai veche la cea mai recent folosită. */
+    private final LinkedHashMap<String, Resident> recent = new LinkedHashMap<>(16, 0.75f, true);
+    /** Memoria ocupată de resursele din {@link #recent}. */
+    private long recentBytes;
+
+    /** Numărul de resurse încărcate. */
+    private int loads;
+    /** Numărul de resurse refolosite (fără reîncărcare) la schimbarea nivelului. */
+    private int reuses;
+    /** Numărul de resurse eliberate pentru a respecta bugetul. */
+    private int evictions;
+
+    /**
+     * Creează managerul de resurse.
+     *
+     * @param budgetBytes Memoria maximă ocupată de resursele nivelurilor inactive, în octeți.
+     */
+    public LevelAssetManager(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Începe încărcarea unui nivel. Resursele nivelului curent devin candidate la eliberare,
+     * dacă nu sunt cerute din nou până la {@link #endLevel()}.
+     */
+    public void beginLevel() {
+        previous.putAll(current);
+        current = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returnează o resursă a nivelului care se încarcă, refolosind-o dacă este încă rezidentă.
+     *
+     * @param key Cheia unică a resursei.
+     * @param loader Funcția care încarcă (și reține) resursa.
+     * @param sizeOf Funcția care estimează memoria ocupată de resursă, în octeți.
+     * @param release Acțiunea care eliberează resursa când este scoasă din memorie.
+     * @param <T> Tipul resursei.
+     * @return Resursa sau {@code null} dacă încărcarea a eșuat.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T acquire(String key, Supplier<T> loader, ToLongFunction<T> sizeOf, Runnable release) {
+        Resident resident = current.get(key);
+        if (resident == null) {
+            resident = previous.remove(key);
+        }
+        if (resident == null) {
+            resident = recent.remove(key);
+            if (resident != null) {
+                recentBytes -= resident.bytes;
+            }
+        }
+        if (resident != null) {
+            reuses++;
+            current.put(key, resident);
+            return (T) resident.value;
+        }
+
+        T value = loader.get();
+        if (value == null) {
+            return null;
+        }
+        loads++;
+        current.put(key, new Resident(value, sizeOf.applyAsLong(value), release));
+        return value;
+    }
+
+    /**
+     * Termină încărcarea unui nivel: resursele nivelului anterior care nu au fost cerute din nou
+     * trec în lista LRU, iar cele mai vechi resurse din listă sunt eliberate până la încadrarea în buget.
+     */
+    public void endLevel() {
+        for (Map.Entry<String, Resident> entry : previous.entrySet()) {
+            recent.put(entry.getKey(), entry.getValue());
+            recentBytes += entry.getValue().bytes;
+        }
+        previous.clear();
+
+        Iterator<Resident> it = recent.values().iterator();
+        while (recentBytes > budgetBytes && it.hasNext()) {
+            Resident eldest = it.next();
+            it.remove();
+            recentBytes -= eldest.bytes;
+            eldest.release.run();
+            evictions++;
+        }
+        System.out.println("LevelAssetManager: nivel curent " + (getCurrentBytes() / 1024) + " KB în "
+                + current.size() + " resurse, niveluri recente " + (recentBytes / 1024) + " KB în " + recent.size()
+                + " resurse (încărcări: " + loads + ", refolosiri: " + reuses + ", eliberări: " + evictions + ")");
+    }
+
+    /**
+     * Returnează memoria ocupată de resursele nivelului curent.
+     * @return Numărul estimat de octeți.
+     */
+    public long getCurrentBytes() {
+        long total = 0;
+        for (Resident resident : current.values()) {
+            total += resident.bytes;
+        }
+        return total;
+    }
+
+    /**
+     * Returnează memoria ocupată de resursele păstrate ale nivelurilor inactive.
+     * @return Numărul estimat de octeți.
+     */
+    public long getRecentBytes() {
+        return recentBytes;
+    }
+
+    /**
+     * Returnează numărul de resurse încărcate.
+     * @return Numărul de încărcări.
+     */
+    public int getLoads() {
+        return loads;
+    }
+
+    /**
+     * Returnează numărul de resurse refolosite la schimbarea nivelului.
+     * @return Numărul de refolosiri.
+     */
+    public int getReuses() {
+        return reuses;
+    }
+
+    /**
+     * Returnează numărul de resurse eliberate pentru a respecta bugetul.
+     * @return Numărul de eliberări.
+     */
+    public int getEvictions() {
+        return evictions;
+    }
+}
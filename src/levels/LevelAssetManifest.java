@@ -0,0 +1,201 @@
+package levels;
+
+import entities.AnimationSet;
+import entities.EnemyManager;
+import entities.GoblinBoss;
+import entities.GolemBoss;
+import entities.Karagor;
+import utilz.Constants;
+import utilz.LoadSave;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Lista resurselor de care are nevoie un nivel: fundalul, tileset-ul și spritesheet-urile
+ * inamicilor care apar efectiv în nivel, deduse din codurile de spawn din datele acestuia.
+ * Folosită de {@link LevelManager} pentru a încărca doar aceste resurse (vezi {@link LevelAssetManager}).
+ */
+public class LevelAssetManifest {
+
+    /**
+     * Un tip de inamic: codul lui de spawn, nivelul în care poate apărea și spritesheet-ul folosit.
+     * {@code EnemyManager} folosește același tabel pentru a decide ce inamici apar într-un nivel,
+     * deci un inamic nu poate apărea fără spritesheet-ul lui.
+     */
+    private static class EnemySheet {
+        final int spawnCode;
+        final int level;
+        final String sheet;
+        final Supplier<AnimationSet> loader;
+
+        EnemySheet(int spawnCode, int level, String sheet, Supplier<AnimationSet> loader) {
+            this.spawnCode = spawnCode;
+            this.level = level;
+            this.sheet = sheet;
+            this.loader = loader;
+        }
+    }
+
+    /** Tabelul inamicilor: cod de spawn → nivel → spritesheet. */
+    private static final EnemySheet[] ENEMY_SHEETS = {
+            new EnemySheet(-2, 1, LoadSave.NANITE_JUNGLA, () -> EnemyManager.loadSpriteSheet(LoadSave.NANITE_JUNGLA,
+                    Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE)),
+            new EnemySheet(-3, 1, LoadSave.KARAGOR_SPRITESHEET, Karagor::getAnimations),
+            new EnemySheet(-4, 2, LoadSave.GOBLIN_NOOB_SPRITESHEET, () -> EnemyManager.loadSpriteSheet(LoadSave.GOBLIN_NOOB_SPRITESHEET,
+                    Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_WIDTH_DEFAULT, Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_HEIGHT_DEFAULT)),
+            new EnemySheet(-5, 3, LoadSave.GOBLIN_HARD_SPRITESHEET, () -> EnemyManager.loadSpriteSheet(LoadSave.GOBLIN_HARD_SPRITESHEET,
+                    Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_WIDTH_DEFAULT, Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_HEIGHT_DEFAULT)),
+            new EnemySheet(-6, 2, LoadSave.GOBLIN_BOSS_SPRITESHEET, GoblinBoss::getAnimations),
+            new EnemySheet(-7, 3, LoadSave.NANITE_PESTERA, () -> EnemyManager.loadSpriteSheet(LoadSave.NANITE_PESTERA,
+                    Constants.EnemyConstants.ENEMY_SIZE, Constants.EnemyConstants.ENEMY_SIZE)),
+            new EnemySheet(-9, 3, LoadSave.GOLEM_BOSS_SPRITESHEET, GolemBoss::getAnimations)
+    };
+
+    /** Numărul nivelului. */
+    private final int levelNumber;
+    /** Calea imaginii de fundal. */
+    private final String backgroundPath;
+    /** Calea tileset-ului. */
+    private final String atlasPath;
+    /** Spritesheet-urile inamicilor care apar în nivel. */
+    private final List<String> spriteSheets;
+
+    /**
+     * Construiește manifestul unui nivel.
+     *
+     * @param levelNumber Numărul nivelului.
+     * @param backgroundPath Calea imaginii de fundal.
+     * @param atlasPath Calea tileset-ului.
+     * @param spriteSheets Spritesheet-urile inamicilor.
+     */
+    private LevelAssetManifest(int levelNumber, String backgroundPath, String atlasPath, List<String> spriteSheets) {
+        this.levelNumber = levelNumber;
+        this.backgroundPath = backgroundPath;
+        this.atlasPath = atlasPath;
+        this.spriteSheets = Collections.unmodifiableList(spriteSheets);
+    }
+
+    /**
+     * Creează manifestul unui nivel, scanând datele lui pentru codurile de spawn ale inamicilor.
+     *
+     * @param levelNumber Numărul nivelului.
+     * @param levelFactory Fabrica de niveluri (pentru căile fundalului și tileset-ului).
+     * @param levelData Datele nivelului (pot fi {@code null}).
+     * @return Manifestul nivelului.
+     */
+    public static LevelAssetManifest create(int levelNumber, LevelFactory levelFactory, int[][] levelData) {
+        List<String> sheets = new ArrayList<>();
+        for (EnemySheet enemy : ENEMY_SHEETS) {
+            if (spawnsInLevel(enemy.spawnCode, levelNumber) && containsCode(levelData, enemy.spawnCode)
+                    && !sheets.contains(enemy.sheet)) {
+                sheets.add(enemy.sheet);
+            }
+        }
+        return new LevelAssetManifest(levelNumber, levelFactory.getBackgroundPath(levelNumber),
+                levelFactory.getLevelAtlasPath(levelNumber), sheets);
+    }
+
+    /**
+     * Caută un tip de inamic după codul de spawn.
+     *
+     * @param spawnCode Codul de spawn din datele nivelului.
+     * @return Tipul de inamic sau {@code null} dacă codul nu aparține unui inamic.
+     */
+    private static EnemySheet findEnemy(int spawnCode) {
+        for (EnemySheet enemy : ENEMY_SHEETS) {
+            if (enemy.spawnCode == spawnCode) {
+                return enemy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifică dacă o valoare din datele nivelului este codul de spawn al unui inamic.
+     *
+     * @param spawnCode Valoarea din datele nivelului.
+     * @return {@code true} dacă valoarea aparține unui inamic cunoscut.
+     */
+    public static boolean isEnemyCode(int spawnCode) {
+        return findEnemy(spawnCode) != null;
+    }
+
+    /**
+     * Verifică dacă un inamic poate apărea într-un nivel (singura sursă pentru această regulă).
+     *
+     * @param spawnCode Codul de spawn al inamicului.
+     * @param levelNumber Numărul nivelului.
+     * @return {@code true} dacă inamicul apare în nivel.
+     */
+    public static boolean spawnsInLevel(int spawnCode, int levelNumber) {
+        EnemySheet enemy = findEnemy(spawnCode);
+        return enemy != null && enemy.level == levelNumber;
+    }
+
+    /**
+     * Returnează setul de animații pentru un spritesheet de inamic, construit la fel ca de entitatea care îl folosește.
+     *
+     * @param sheet Numele spritesheet-ului.
+     * @return Setul de animații partajat sau {@code null} dacă spritesheet-ul nu aparține unui inamic cunoscut.
+     */
+    public static AnimationSet loadSpriteSheet(String sheet) {
+        for (EnemySheet enemy : ENEMY_SHEETS) {
+            if (enemy.sheet.equals(sheet)) {
+                return enemy.loader.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Verifică dacă datele nivelului conțin un cod de spawn.
+     *
+     * @param levelData Datele nivelului.
+     * @param code Codul căutat.
+     * @return {@code true} dacă codul apare cel puțin o dată.
+     */
+    private static boolean containsCode(int[][] levelData, int code) {
+        if (levelData == null) return false;
+        for (int[] row : levelData) {
+            for (int value : row) {
+                if (value == code) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returnează numărul nivelului.
+     * @return Numărul nivelului.
+     */
+    public int getLevelNumber() {
+        return levelNumber;
+    }
+
+    /**
+     * Returnează calea imaginii de fundal a nivelului.
+     * @return Calea fundalului.
+     */
+    public String getBackgroundPath() {
+        return backgroundPath;
+    }
+
+    /**
+     * Returnează calea tileset-ului nivelului.
+     * @return Calea tileset-ului.
+     */
+    public String getAtlasPath() {
+        return atlasPath;
+    }
+
+    /**
+     * Returnează spritesheet-urile inamicilor care apar în nivel.
+     * @return Lista (nemodificabilă) a numelor spritesheet-urilor.
+     */
+    public List<String> getSpriteSheets() {
+        return spriteSheets;
+    }
+}
@@ -1,9 +1,19 @@
 package levels;
 
+import entities.AnimationSet;
 import main.Game;
+import utilz.AssetCache;
+import utilz.Constants;
 import utilz.LoadSave;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import static main.Game.TILES_SIZE;
 
@@ -12,17 +22,59 @@ import static main.Game.TILES_SIZE;
  * Utilizează {@link LevelFactory} pentru a crea instanțe de {@link Level}.
  */
 public class LevelManager {
+    /** Numărul ultimului nivel al jocului. */
+    private static final int LAST_LEVEL = 3;
+
+    /**
+     * Un nivel pregătit în fundal de {@link #prefetchLevel(int)}: obiectul Level, manifestul,
+     * resursele deja decodate, tile-urile și cache-ul de randare, păstrate până când nivelul este încărcat.
+     */
+    private static class PrefetchedLevel {
+        final Level level;
+        final LevelAssetManifest manifest;
+        final List<Object> assets;
+        /** Atlasul scalat din care au fost extrase {@link #tileSprites}. */
+        final BufferedImage tileAtlas;
+        final BufferedImage[] tileSprites;
+        final LevelRenderCache renderCache;
+
+        PrefetchedLevel(Level level, LevelAssetManifest manifest, List<Object> assets,
+                        BufferedImage tileAtlas, BufferedImage[] tileSprites, LevelRenderCache renderCache) {
+            this.level = level;
+            this.manifest = manifest;
+            this.assets = assets;
+            this.tileAtlas = tileAtlas;
+            this.tileSprites = tileSprites;
+            this.renderCache = renderCache;
+        }
+    }
+
     private Game game; // Referință la instanța principală a jocului
-    /** Array de imagini pentru tile-urile sprite-urilor nivelului curent. */
-    private BufferedImage[] levelSprite;
-    /** Imaginea de fundal pentru nivelul curent. */
-    private BufferedImage backgroundImage;
     /** Obiectul {@link Level} curent încărcat. */
     private Level currentLevel;
     /** Fabrica utilizată pentru a crea obiecte de tip Level. */
     private LevelFactory levelFactory;
     /** Numărul (indexul) nivelului curent. */
     private int currentLevelNumber;
+    /** Modul de scalare folosit la pre-scalarea tileset-ului (vezi {@link Constants.Tiles#TILE_SCALING}). */
+    private final int tileScaling = Constants.Tiles.TILE_SCALING;
+    /**
+     * Starea de desenare a nivelului curent (fundal, tile-uri, cache de randare), înlocuită integral
+     * la fiecare încărcare de nivel; citită de firul de randare.
+     */
+    private volatile LevelRenderState renderState = LevelRenderState.EMPTY;
+    /** Numărul de tile-uri omise (în afara ecranului) la ultima desenare a nivelului. */
+    private volatile int culledTilesLastFrame;
+    /** Resursele rezidente ale nivelului curent și ale nivelurilor recente. */
+    private final LevelAssetManager assetManager = new LevelAssetManager(Constants.Cache.LEVEL_ASSET_BUDGET_BYTES);
+    /** Manifestul resurselor nivelului curent. */
+    private LevelAssetManifest assetManifest;
+    /** Firul de execuție pe care sunt pregătite nivelurile următoare (creat la prima utilizare). */
+    private ExecutorService prefetcher;
+    /** Nivelul în curs de pregătire (sau deja pregătit) în fundal, sau {@code null}. */
+    private Future<PrefetchedLevel> prefetch;
+    /** Numărul nivelului din {@link #prefetch}. */
+    private int prefetchLevelNumber;
     
     /**
      * Constructor pentru LevelManager.
@@ -40,15 +92,32 @@ public class LevelManager {
     
     /**
      * Încarcă un nivel specific pe baza numărului său.
-     * Importă sprite-urile și imaginea de fundal corespunzătoare și creează obiectul Level.
+     * Creează obiectul Level și încarcă doar resursele din manifestul lui ({@link LevelAssetManifest}):
+     * tileset-ul, fundalul și spritesheet-urile inamicilor care apar în nivel.
+     * Resursele nivelului anterior sunt eliberate abia după reținerea celor noi, deci cele comune
+     * și cele ale nivelurilor recente (în limita bugetului) sunt refolosite fără a fi decodate din nou.
+     * Dacă nivelul a fost pregătit în fundal ({@link #prefetchLevel(int)}), se folosesc direct
+     * obiectul Level, resursele deja decodate, tile-urile și cache-ul de randare; aici rămân doar
+     * reținerea resurselor în {@link LevelAssetManager} și publicarea noii stări de desenare.
      * 
      * @param levelNumber Numărul nivelului de încărcat.
      */
     public void loadLevel(int levelNumber) {
         this.currentLevelNumber = levelNumber;
-        importSpritesForLevel(levelNumber);
-        importBackgroundForLevel(levelNumber);
-        currentLevel = levelFactory.createLevel(levelNumber);
+        PrefetchedLevel prefetched = takePrefetched(levelNumber);
+        if (prefetched != null) {
+            currentLevel = prefetched.level;
+            assetManifest = prefetched.manifest;
+        } else {
+            currentLevel = levelFactory.createLevel(levelNumber);
+            assetManifest = LevelAssetManifest.create(levelNumber, levelFactory,
+                    currentLevel != null ? currentLevel.getLevelData() : null);
+        }
+        assetManager.beginLevel();
+        BufferedImage scaledAtlas = importAtlasForLevel(levelNumber);
+        BufferedImage backgroundImage = importBackgroundForLevel(levelNumber);
+        importSpriteSheetsForLevel();
+        assetManager.endLevel();
         // Asigură inițializarea listei de banane dacă LevelFactory nu o face
         if (currentLevel != null && currentLevel.getBananas() == null) {
             currentLevel.setBananas(new java.util.ArrayList<>());
@@ -57,79 +126,326 @@ public class LevelManager {
         if (currentLevel != null && currentLevel.getCoconuts() == null) {
             currentLevel.setCoconuts(new java.util.ArrayList<>());
         }
+        BufferedImage[] levelSprite;
+        LevelRenderCache renderCache;
+        if (prefetched != null && prefetched.tileAtlas == scaledAtlas) { // Pregătite în fundal, cu același atlas
+            levelSprite = prefetched.tileSprites;
+            renderCache = prefetched.renderCache;
+        } else {
+            levelSprite = sliceAtlas(scaledAtlas, levelNumber, assetManifest.getAtlasPath());
+            renderCache = buildRenderCache(currentLevel, levelSprite);
+        }
+        // Publică noul nivel pentru desenare printr-o singură scriere
+        renderState = new LevelRenderState(currentLevel, backgroundImage, levelSprite, renderCache);
+    }
+
+    /**
+     * Începe pregătirea în fundal a nivelului următor (vezi {@link #prefetchLevel(int)}).
+     * Poate fi apelată la fiecare actualizare; pregătirea pornește o singură dată.
+     */
+    public void prefetchNextLevel() {
+        if (currentLevelNumber < LAST_LEVEL) {
+            prefetchLevel(currentLevelNumber + 1);
+        }
+    }
+
+    /**
+     * Pregătește un nivel pe un fir de execuție separat: citește datele lui, creează obiectul Level,
+     * decodează tileset-ul scalat, fundalul și spritesheet-urile inamicilor din manifest și pre-desenează
+     * chunk-urile {@link LevelRenderCache}.
+     * Următorul {@link #loadLevel(int)} pentru acest nivel doar preia rezultatul, fără a bloca jocul.
+     * Apelurile repetate pentru același nivel sunt ignorate.
+     *
+     * @param levelNumber Numărul nivelului de pregătit.
+     */
+    public void prefetchLevel(int levelNumber) {
+        if (prefetch != null && prefetchLevelNumber == levelNumber) {
+            return;
+        }
+        if (prefetcher == null) {
+            prefetcher = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "level-prefetcher");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+        }
+        prefetchLevelNumber = levelNumber;
+        prefetch = prefetcher.submit(() -> {
+            long start = System.nanoTime();
+            Level level = levelFactory.createLevel(levelNumber);
+            LevelAssetManifest manifest = LevelAssetManifest.create(levelNumber, levelFactory,
+                    level != null ? level.getLevelData() : null);
+            // Imaginile intră în AssetCache; referințele de aici le păstrează până la încărcarea nivelului
+            List<Object> assets = new ArrayList<>();
+            String atlasPath = manifest.getAtlasPath();
+            BufferedImage tileAtlas = AssetCache.get(tilesetKey(atlasPath), () -> loadTileset(levelNumber, atlasPath));
+            assets.add(tileAtlas);
+            String backgroundPath = manifest.getBackgroundPath();
+            assets.add(AssetCache.get(backgroundKey(backgroundPath), () -> loadBackground(backgroundPath)));
+            for (String sheet : manifest.getSpriteSheets()) {
+                assets.add(LevelAssetManifest.loadSpriteSheet(sheet));
+            }
+            // Tile-urile și chunk-urile pre-desenate sunt pregătite tot aici, nu la încărcarea nivelului
+            BufferedImage[] tileSprites = sliceAtlas(tileAtlas, levelNumber, atlasPath);
+            LevelRenderCache renderCache = buildRenderCache(level, tileSprites);
+            System.out.println("LevelManager: nivelul " + levelNumber + " a fost pregătit în fundal în "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms.");
+            return new PrefetchedLevel(level, manifest, assets, tileAtlas, tileSprites, renderCache);
+        });
+    }
+
+    /**
+     * Preia rezultatul pregătirii în fundal a unui nivel. Dacă pregătirea nu s-a terminat încă,
+     * o așteaptă (durează mai puțin decât o încărcare completă). O pregătire pentru alt nivel este abandonată.
+     *
+     * @param levelNumber Numărul nivelului care se încarcă.
+     * @return Nivelul pregătit sau {@code null} dacă nu există sau pregătirea a eșuat.
+     */
+    private PrefetchedLevel takePrefetched(int levelNumber) {
+        Future<PrefetchedLevel> pending = prefetch;
+        prefetch = null;
+        if (pending == null || prefetchLevelNumber != levelNumber) {
+            return null;
+        }
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("LevelManager: pregătirea nivelului " + levelNumber + " a eșuat: " + e.getCause());
+        }
+        return null;
+    }
+
+    /**
+     * Construiește cache-ul de randare pentru tile-urile unui nivel.
+     *
+     * @param level Nivelul.
+     * @param levelSprite Sprite-urile tile-urilor nivelului.
+     * @return Cache-ul sau {@code null} dacă nivelul nu are date valide (desenarea se face tile cu tile).
+     */
+    private static LevelRenderCache buildRenderCache(Level level, BufferedImage[] levelSprite) {
+        if (level != null && level.getLevelData() != null && levelSprite != null) {
+            return new LevelRenderCache(level, levelSprite);
+        }
+        return null;
     }
 
     /**
      * Încarcă imaginea de fundal pentru nivelul specificat.
      *
      * @param levelNumber Numărul nivelului pentru care se încarcă fundalul.
+     * @return Fundalul la dimensiunea ecranului sau {@code null} dacă nu a putut fi încărcat.
      */
-    private void importBackgroundForLevel(int levelNumber) {
-        String backgroundPath = levelFactory.getBackgroundPath(levelNumber);
-        backgroundImage = LoadSave.getSpriteAtlas(backgroundPath);
+    private BufferedImage importBackgroundForLevel(int levelNumber) {
+        String backgroundPath = assetManifest.getBackgroundPath();
+        // Fundalul este scalat o singură dată la dimensiunea ecranului, nu la fiecare frame,
+        // și este reținut în cache cât timp nivelul este activ
+        return acquireImage(backgroundKey(backgroundPath), () -> loadBackground(backgroundPath));
     }
 
     /**
-     * Încarcă și prelucrează atlasul de sprite-uri (tileset) pentru nivelul specificat.
-     * Extrage fiecare tile individual și îl stochează în array-ul {@code levelSprite}.
+     * Returnează cheia din {@link AssetCache} a fundalului scalat la dimensiunea ecranului.
      *
-     * @param levelNumber Numărul nivelului pentru care se încarcă sprite-urile.
+     * @param backgroundPath Calea imaginii de fundal.
+     * @return Cheia din cache.
      */
-    private void importSpritesForLevel(int levelNumber) {
-        String atlasPath = levelFactory.getLevelAtlasPath(levelNumber);
-        BufferedImage img = LoadSave.getSpriteAtlas(atlasPath);
-        
-        if (img == null) {
-            System.err.println("Eroare: Atlasul de sprite-uri pentru nivelul " + levelNumber + " nu a putut fi încărcat: " + atlasPath);
-            levelSprite = new BufferedImage[0]; // Array gol pentru a evita NullPointerException
-            return;
+    private static String backgroundKey(String backgroundPath) {
+        return "screen:" + backgroundPath;
+    }
+
+    /**
+     * Decodează fundalul unui nivel și îl scalează la dimensiunea ecranului.
+     *
+     * @param backgroundPath Calea imaginii de fundal.
+     * @return Fundalul la dimensiunea ecranului sau {@code null} dacă nu a putut fi încărcat.
+     */
+    private static BufferedImage loadBackground(String backgroundPath) {
+        return LoadSave.toScreenImage(LoadSave.decodeImage(backgroundPath));
+    }
+
+    /**
+     * Încarcă seturile de animații ale inamicilor care apar în nivelul curent.
+     * Setul unui spritesheet eliberat de {@link LevelAssetManager} este scos din cache-ul {@link AnimationSet}.
+     */
+    private void importSpriteSheetsForLevel() {
+        for (String sheet : assetManifest.getSpriteSheets()) {
+            assetManager.acquire("sheet:" + sheet, () -> LevelAssetManifest.loadSpriteSheet(sheet),
+                    AnimationSet::getMemoryBytes, () -> AnimationSet.evict(sheet));
         }
-        
+    }
+
+    /**
+     * Returnează o imagine a nivelului, reținută în {@link AssetCache} cât timp este gestionată de {@link LevelAssetManager}.
+     *
+     * @param key Cheia imaginii în cache.
+     * @param loader Funcția care creează imaginea.
+     * @return Imaginea sau {@code null} dacă nu a putut fi încărcată.
+     */
+    private BufferedImage acquireImage(String key, Supplier<BufferedImage> loader) {
+        return assetManager.acquire(key, () -> AssetCache.acquire(key, loader),
+                AssetCache::estimateBytes, () -> AssetCache.release(key));
+    }
+
+    /**
+     * Încarcă atlasul de sprite-uri (tileset) pentru nivelul specificat.
+     * Tileset-ul este scalat o singură dată la dimensiunea {@code TILES_SIZE} într-un atlas
+     * compatibil cu ecranul; tile-urile sunt apoi extrase din el cu {@link #sliceAtlas}.
+     *
+     * @param levelNumber Numărul nivelului pentru care se încarcă atlasul.
+     * @return Atlasul scalat sau {@code null} dacă nu a putut fi încărcat.
+     */
+    private BufferedImage importAtlasForLevel(int levelNumber) {
+        String atlasPath = assetManifest.getAtlasPath();
+        // Atlasul scalat este reținut în cache cât timp nivelul este activ; sursa nescalată nu este păstrată
+        return acquireImage(tilesetKey(atlasPath), () -> loadTileset(levelNumber, atlasPath));
+    }
+
+    /**
+     * Împarte atlasul scalat în tile-uri. Fiecare tile este o sub-imagine a atlasului, desenată ulterior fără scalare.
+     *
+     * @param scaledAtlas Atlasul scalat sau {@code null}.
+     * @param levelNumber Numărul nivelului.
+     * @param atlasPath Calea tileset-ului (pentru mesajul de eroare).
+     * @return Tile-urile nivelului (array gol dacă atlasul nu a putut fi încărcat).
+     */
+    private BufferedImage[] sliceAtlas(BufferedImage scaledAtlas, int levelNumber, String atlasPath) {
         int rows = levelFactory.getTilesetRows(levelNumber);
         int cols = levelFactory.getTilesetCols(levelNumber);
-        int tileSize = levelFactory.getTileSize(levelNumber);
-        
-        levelSprite = new BufferedImage[rows * cols]; // Alocă array-ul pentru tile-uri
+
+        if (scaledAtlas == null) {
+            System.err.println("Eroare: Atlasul de sprite-uri pentru nivelul " + levelNumber + " nu a putut fi încărcat: " + atlasPath);
+            return new BufferedImage[0]; // Array gol pentru a evita NullPointerException
+        }
+        BufferedImage[] levelSprite = new BufferedImage[rows * cols]; // Alocă array-ul pentru tile-uri
         
-        // Extrage fiecare tile din imaginea tileset
+        // Extrage fiecare tile din atlasul deja scalat
         for (int j = 0; j < rows; j++) {
             for (int i = 0; i < cols; i++) {
                 int index = j * cols + i;
                 if (index < levelSprite.length) { // Verificare suplimentară de siguranță
-                    levelSprite[index] = img.getSubimage(i * tileSize, j * tileSize, tileSize, tileSize);
+                    levelSprite[index] = scaledAtlas.getSubimage(i * TILES_SIZE, j * TILES_SIZE, TILES_SIZE, TILES_SIZE);
                 }
             }
         }
+        return levelSprite;
+    }
+
+    /**
+     * Returnează cheia din {@link AssetCache} a tileset-ului scalat cu setările curente.
+     *
+     * @param atlasPath Calea tileset-ului.
+     * @return Cheia din cache.
+     */
+    private String tilesetKey(String atlasPath) {
+        return "tiles:" + atlasPath + ":" + TILES_SIZE + ":" + tileScaling;
     }
 
     /**
-     * Desenează nivelul curent pe ecran.
+     * Decodează tileset-ul unui nivel și îl scalează la {@code TILES_SIZE} (vezi {@link #createScaledAtlas}).
+     *
+     * @param levelNumber Numărul nivelului.
+     * @param atlasPath Calea tileset-ului.
+     * @return Atlasul scalat sau {@code null} dacă tileset-ul nu a putut fi încărcat.
+     */
+    private BufferedImage loadTileset(int levelNumber, String atlasPath) {
+        BufferedImage img = LoadSave.decodeImage(atlasPath);
+        return img == null ? null : createScaledAtlas(img, levelFactory.getTilesetRows(levelNumber),
+                levelFactory.getTilesetCols(levelNumber), levelFactory.getTileSize(levelNumber));
+    }
+
+    /**
+     * Scalează tileset-ul sursă astfel încât fiecare tile să aibă dimensiunea {@code TILES_SIZE}.
+     * Tile-urile sunt scalate individual, pentru ca interpolarea să nu amestece pixeli
+     * de la tile-urile vecine.
+     *
+     * @param img Imaginea tileset-ului sursă.
+     * @param rows Numărul de rânduri de tile-uri din tileset.
+     * @param cols Numărul de coloane de tile-uri din tileset.
+     * @param tileSize Dimensiunea unui tile în tileset-ul sursă, în pixeli.
+     * @return Atlasul scalat.
+     */
+    private BufferedImage createScaledAtlas(BufferedImage img, int rows, int cols, int tileSize) {
+        BufferedImage atlas = LoadSave.createCompatibleImage(cols * TILES_SIZE, rows * TILES_SIZE, Transparency.TRANSLUCENT);
+        Graphics2D g2d = atlas.createGraphics();
+        Object hint = tileScaling == Constants.Tiles.SCALING_BILINEAR
+                ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, hint);
+
+        for (int j = 0; j < rows; j++) {
+            for (int i = 0; i < cols; i++) {
+                int sx = i * tileSize;
+                int sy = j * tileSize;
+                if (sx + tileSize > img.getWidth() || sy + tileSize > img.getHeight()) continue;
+                BufferedImage tile = img.getSubimage(sx, sy, tileSize, tileSize);
+                g2d.drawImage(tile, i * TILES_SIZE, j * TILES_SIZE, TILES_SIZE, TILES_SIZE, null);
+            }
+        }
+        g2d.dispose();
+        return atlas;
+    }
+
+    /**
+     * Desenează un nivel pe ecran.
      * Mai întâi desenează imaginea de fundal, apoi tile-urile nivelului.
+     * Tile-urile sunt desenate din chunk-urile pre-desenate ale {@link LevelRenderCache},
+     * doar pentru porțiunea vizibilă a nivelului; numărul tile-urilor omise poate fi
+     * citit cu {@link #getCulledTilesLastFrame()}.
      *
      * @param g Contextul grafic {@link Graphics} pe care se va desena.
+     * @param state Starea de desenare a nivelului (vezi {@link #getRenderState()}).
      * @param xLvlOffset Offset-ul orizontal de derulare al nivelului.
      */
-    public void draw(Graphics g, int xLvlOffset) {
+    public void draw(Graphics g, LevelRenderState state, int xLvlOffset) {
         // Desenează fundalul mai întâi
-        if (backgroundImage != null) {
-            g.drawImage(backgroundImage, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
+        if (state.getBackgroundImage() != null) {
+            g.drawImage(state.getBackgroundImage(), 0, 0, null);
         }
         
         // Desenează tile-urile peste fundal
-        if (currentLevel != null && currentLevel.getLevelData() != null && levelSprite != null) {
-            for (int j = 0; j < Game.TILES_IN_HEIGHT; j++){ // Presupunând că Game.TILES_IN_HEIGHT este corect pentru înălțimea vizibilă
-                // Asigură-te că j este în limitele datelor nivelului
-                if (j >= currentLevel.getLevelData().length) continue;
-
-                for (int i = 0; i < currentLevel.getLevelData()[0].length; i++) {
-                    int index = currentLevel.getSpriteIndex(i, j);
-                    // Desenează tile-ul doar dacă indexul este valid și în limitele array-ului levelSprite
-                    if (index >= 0 && index < levelSprite.length && levelSprite[index] != null) {
-                        g.drawImage(levelSprite[index], TILES_SIZE * i - xLvlOffset, TILES_SIZE * j, TILES_SIZE, TILES_SIZE, null);
-                    }
+        Level level = state.getLevel();
+        LevelRenderCache renderCache = state.getRenderCache();
+        if (renderCache != null) {
+            int[][] lvlData = level.getLevelData();
+            int totalTiles = Math.min(Game.TILES_IN_HEIGHT, lvlData.length) * (lvlData.length > 0 ? lvlData[0].length : 0);
+            culledTilesLastFrame = totalTiles - renderCache.draw(g, xLvlOffset);
+        } else if (level != null && level.getLevelData() != null && state.getTileSprites() != null) {
+            drawVisibleTiles(g, level, state.getTileSprites(), xLvlOffset);
+        }
+    }
+
+    /**
+     * Desenează doar tile-urile aflate în fereastra vizibilă a camerei.
+     * Prima coloană se obține din offset-ul de derulare, iar ultima este cu o coloană
+     * mai departe decât lățimea ecranului în tile-uri, pentru coloana desenată parțial.
+     *
+     * @param g Contextul grafic {@link Graphics} pe care se va desena.
+     * @param level Nivelul desenat.
+     * @param levelSprite Sprite-urile tile-urilor nivelului.
+     * @param xLvlOffset Offset-ul orizontal de derulare al nivelului.
+     */
+    private void drawVisibleTiles(Graphics g, Level level, BufferedImage[] levelSprite, int xLvlOffset) {
+        int[][] lvlData = level.getLevelData();
+        int rows = Math.min(Game.TILES_IN_HEIGHT, lvlData.length);
+        int levelCols = lvlData.length > 0 ? lvlData[0].length : 0;
+
+        int firstCol = Math.max(0, Math.floorDiv(xLvlOffset, TILES_SIZE));
+        int lastCol = Math.min(levelCols - 1, firstCol + Game.TILES_IN_WIDTH);
+
+        int drawn = 0;
+        for (int j = 0; j < rows; j++) {
+            for (int i = firstCol; i <= lastCol; i++) {
+                int index = level.getSpriteIndex(i, j);
+                // Desenează tile-ul doar dacă indexul este valid și în limitele array-ului levelSprite
+                if (index >= 0 && index < levelSprite.length && levelSprite[index] != null) {
+                    g.drawImage(levelSprite[index], TILES_SIZE * i - xLvlOffset, TILES_SIZE * j, null);
                 }
             }
+            drawn += Math.max(0, lastCol - firstCol + 1);
         }
+        culledTilesLastFrame = rows * levelCols - drawn;
     }
 
     /**
@@ -148,6 +464,70 @@ public class LevelManager {
         return currentLevel;
     }
     
+    /**
+     * Returnează manifestul resurselor nivelului curent.
+     * @return Manifestul sau {@code null} dacă niciun nivel nu a fost încărcat.
+     */
+    public LevelAssetManifest getAssetManifest() {
+        return assetManifest;
+    }
+
+    /**
+     * Returnează managerul resurselor rezidente ale nivelurilor.
+     * @return Managerul de resurse.
+     */
+    public LevelAssetManager getAssetManager() {
+        return assetManager;
+    }
+
+    /**
+     * Returnează modul de scalare folosit la pre-scalarea tileset-ului.
+     * @return Modul de scalare curent.
+     */
+    public int getTileScaling() {
+        return tileScaling;
+    }
+
+    /**
+     * Marchează pentru redesenare zona din cache care conține tile-ul specificat.
+     * Trebuie apelată după orice modificare a datelor unui tile în timpul nivelului.
+     *
+     * @param col Coloana tile-ului (în unități de tile-uri).
+     * @param row Rândul tile-ului (în unități de tile-uri).
+     */
+    public void invalidateTile(int col, int row) {
+        LevelRenderCache renderCache = renderState.getRenderCache();
+        if (renderCache != null) {
+            renderCache.invalidateTile(col, row);
+        }
+    }
+
+    /**
+     * Returnează cache-ul de randare al nivelului curent.
+     * @return Cache-ul de randare sau {@code null} dacă nivelul nu a putut fi încărcat.
+     */
+    public LevelRenderCache getRenderCache() {
+        return renderState.getRenderCache();
+    }
+
+    /**
+     * Returnează starea de desenare a nivelului curent. Firul de randare trebuie să o citească o singură dată
+     * per cadru și să deseneze doar din ea (vezi {@link LevelRenderState}).
+     * @return Starea de desenare (niciodată {@code null}).
+     */
+    public LevelRenderState getRenderState() {
+        return renderState;
+    }
+
+    /**
+     * Returnează numărul de tile-uri care nu au fost desenate la ultimul apel {@link #draw(Graphics, LevelRenderState, int)},
+     * deoarece se aflau în afara ecranului.
+     * @return Numărul de tile-uri omise în ultimul frame.
+     */
+    public int getCulledTilesLastFrame() {
+        return culledTilesLastFrame;
+    }
+
     /**
      * Returnează numărul (indexul) nivelului curent.
      * @return Numărul nivelului curent.
@@ -162,7 +542,7 @@ public class LevelManager {
      * @return {@code true} dacă s-a trecut la următorul nivel cu succes, {@code false} dacă nu mai sunt niveluri.
      */
     public boolean nextLevel() {
-        if (currentLevelNumber < 3) { // Presupunând că există 3 niveluri
+        if (currentLevelNumber < LAST_LEVEL) {
             loadLevel(currentLevelNumber + 1);
             return true;
         }
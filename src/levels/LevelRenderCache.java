@@ -0,0 +1,154 @@
+package levels;
+
+import main.Game;
+import utilz.LoadSave;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static main.Game.TILES_SIZE;
+
+/**
+ * Cache de randare pentru stratul static de tile-uri al unui nivel.
+ * Tile-urile sunt desenate o singură dată în imagini de lățime fixă ("chunk-uri"),
+ * astfel încât la fiecare frame se desenează doar câteva imagini mari
+ * în locul fiecărui tile în parte.
+ * Un chunk poate fi invalidat (de ex., după modificarea unui tile) și va fi
+ * redesenat la următoarea randare.
+ */
+public class LevelRenderCache {
+    /** Lățimea unui chunk, în tile-uri. */
+    public static final int CHUNK_WIDTH_TILES = 8;
+
+    /** Nivelul ale cărui tile-uri sunt păstrate în cache. */
+    private final Level level;
+    /** Sprite-urile tile-urilor (deja scalate la {@code TILES_SIZE}), indexate după ID-ul din datele nivelului. */
+    private final BufferedImage[] tileSprites;
+    /** Numărul de rânduri de tile-uri desenate. */
+    private final int rows;
+    /** Numărul total de coloane ale nivelului. */
+    private final int cols;
+    /** Imaginile pre-desenate ale chunk-urilor. */
+    private final BufferedImage[] chunks;
+    /** Marchează chunk-urile care trebuie redesenate înainte de următoarea randare. */
+    private final boolean[] dirty;
+
+    /**
+     * Construiește cache-ul și desenează imediat toate chunk-urile nivelului.
+     *
+     * @param level Nivelul ale cărui tile-uri se păstrează în cache.
+     * @param tileSprites Sprite-urile tile-urilor nivelului.
+     */
+    public LevelRenderCache(Level level, BufferedImage[] tileSprites) {
+        this.level = level;
+        this.tileSprites = tileSprites;
+        int[][] lvlData = level.getLevelData();
+        this.rows = Math.min(Game.TILES_IN_HEIGHT, lvlData.length);
+        this.cols = lvlData.length > 0 ? lvlData[0].length : 0;
+
+        int chunkCount = (cols + CHUNK_WIDTH_TILES - 1) / CHUNK_WIDTH_TILES;
+        this.chunks = new BufferedImage[chunkCount];
+        this.dirty = new boolean[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            bakeChunk(c);
+        }
+    }
+
+    /**
+     * Desenează chunk-urile care se suprapun cu fereastra vizibilă a camerei.
+     * Chunk-urile invalidate sunt redesenate înainte de afișare.
+     *
+     * @param g Contextul grafic {@link Graphics} pe care se va desena.
+     * @param xLvlOffset Offset-ul orizontal de derulare al nivelului.
+     * @return Numărul de tile-uri acoperite de chunk-urile desenate.
+     */
+    public int draw(Graphics g, int xLvlOffset) {
+        if (chunks.length == 0) return 0;
+
+        int chunkPixelWidth = CHUNK_WIDTH_TILES * TILES_SIZE;
+        int firstChunk = Math.max(0, Math.floorDiv(xLvlOffset, chunkPixelWidth));
+        int lastChunk = Math.min(chunks.length - 1, Math.floorDiv(xLvlOffset + Game.GAME_WIDTH - 1, chunkPixelWidth));
+
+        int tilesDrawn = 0;
+        for (int c = firstChunk; c <= lastChunk; c++) {
+            if (dirty[c]) {
+                bakeChunk(c);
+            }
+            BufferedImage chunk = chunks[c];
+            g.drawImage(chunk, c * chunkPixelWidth - xLvlOffset, 0, null);
+            tilesDrawn += (chunk.getWidth() / TILES_SIZE) * rows;
+        }
+        return tilesDrawn;
+    }
+
+    /**
+     * Marchează un chunk pentru redesenare la următoarea randare.
+     *
+     * @param chunkIndex Indexul chunk-ului (coloana tile-ului împărțită la {@link #CHUNK_WIDTH_TILES}).
+     */
+    public void invalidateChunk(int chunkIndex) {
+        if (chunkIndex >= 0 && chunkIndex < dirty.length) {
+            dirty[chunkIndex] = true;
+        }
+    }
+
+    /**
+     * Marchează pentru redesenare chunk-ul care conține tile-ul specificat.
+     *
+     * @param col Coloana tile-ului (în unități de tile-uri).
+     * @param row Rândul tile-ului (în unități de tile-uri).
+     */
+    public void invalidateTile(int col, int row) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return;
+        invalidateChunk(col / CHUNK_WIDTH_TILES);
+    }
+
+    /**
+     * Marchează toate chunk-urile pentru redesenare.
+     */
+    public void invalidateAll() {
+        for (int c = 0; c < dirty.length; c++) {
+            dirty[c] = true;
+        }
+    }
+
+    /**
+     * Returnează numărul de chunk-uri ale nivelului.
+     * @return Numărul de chunk-uri.
+     */
+    public int getChunkCount() {
+        return chunks.length;
+    }
+
+    /**
+     * Desenează tile-urile unui chunk în imaginea sa din cache.
+     * Imaginea existentă este reutilizată, fiind golită înainte de redesenare.
+     *
+     * @param c Indexul chunk-ului.
+     */
+    private void bakeChunk(int c) {
+        int firstCol = c * CHUNK_WIDTH_TILES;
+        int chunkCols = Math.min(CHUNK_WIDTH_TILES, cols - firstCol);
+
+        BufferedImage chunk = chunks[c];
+        if (chunk == null) {
+            chunk = LoadSave.createCompatibleImage(chunkCols * TILES_SIZE, Math.max(1, rows * TILES_SIZE), Transparency.TRANSLUCENT);
+            chunks[c] = chunk;
+        }
+
+        Graphics2D g2d = chunk.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, chunk.getWidth(), chunk.getHeight());
+        g2d.setComposite(AlphaComposite.SrcOver);
+
+        for (int j = 0; j < rows; j++) {
+            for (int i = 0; i < chunkCols; i++) {
+                int index = level.getSpriteIndex(firstCol + i, j);
+                if (index >= 0 && index < tileSprites.length && tileSprites[index] != null) {
+                    g2d.drawImage(tileSprites[index], TILES_SIZE * i, TILES_SIZE * j, null);
+                }
+            }
+        }
+        g2d.dispose();
+        dirty[c] = false;
+    }
+}
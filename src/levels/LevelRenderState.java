@@ -0,0 +1,54 @@
+package levels;
+
+import java.awt.image.BufferedImage;
+
+import main.Game;
+
+/**
+ * Tot ce este necesar pentru desenarea unui nivel încărcat: nivelul, fundalul, sprite-urile tile-urilor,
+ * cache-ul de randare și offset-ul maxim de derulare.
+ * <p>
+ * Obiectul nu se mai modifică după creare. {@link LevelManager} creează unul nou la fiecare încărcare
+ * de nivel și îl publică printr-o singură scriere, astfel încât firul de randare vede fie nivelul vechi,
+ * fie pe cel nou, niciodată un amestec al lor.
+ */
+public final class LevelRenderState {
+
+    /** Starea folosită înainte de încărcarea primului nivel: nu desenează nimic. */
+    public static final LevelRenderState EMPTY = new LevelRenderState(null, null, null, null);
+
+    private final Level level;
+    private final BufferedImage backgroundImage;
+    private final BufferedImage[] tileSprites;
+    private final LevelRenderCache renderCache;
+    private final int maxLvlOffsetX;
+
+    /**
+     * Creează starea de desenare a unui nivel.
+     *
+     * @param level Nivelul sau {@code null} dacă nu a putut fi încărcat.
+     * @param backgroundImage Fundalul la dimensiunea ecranului sau {@code null}.
+     * @param tileSprites Sprite-urile tile-urilor sau {@code null}.
+     * @param renderCache Cache-ul de randare sau {@code null} dacă tile-urile se desenează individual.
+     */
+    LevelRenderState(Level level, BufferedImage backgroundImage, BufferedImage[] tileSprites, LevelRenderCache renderCache) {
+        this.level = level;
+        this.backgroundImage = backgroundImage;
+        this.tileSprites = tileSprites;
+        this.renderCache = renderCache;
+        int[][] lvlData = level != null ? level.getLevelData() : null;
+        int lvlTilesWide = lvlData != null && lvlData.length > 0 ? lvlData[0].length : 0;
+        this.maxLvlOffsetX = Math.max(0, lvlTilesWide - Game.TILES_IN_WIDTH) * Game.TILES_SIZE;
+    }
+
+    /** @return Nivelul sau {@code null}. */
+    public Level getLevel() { return level; }
+    /** @return Fundalul nivelului sau {@code null}. */
+    public BufferedImage getBackgroundImage() { return backgroundImage; }
+    /** @return Sprite-urile tile-urilor sau {@code null}. */
+    BufferedImage[] getTileSprites() { return tileSprites; }
+    /** @return Cache-ul de randare sau {@code null}. */
+    public LevelRenderCache getRenderCache() { return renderCache; }
+    /** @return Offset-ul maxim de derulare al nivelului, în pixeli. */
+    public int getMaxLvlOffsetX() { return maxLvlOffsetX; }
+}
@@ -0,0 +1,101 @@
+package main;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Așteaptă în bucla jocului până la termenul următoarei actualizări sau al următorului cadru.
+ * <p>
+ * În modul hibrid, firul jocului este parcat cu {@link LockSupport#parkNanos(long)} până cu puțin
+ * înainte de termen și doar ultima porțiune ({@code spinWindowNanos}) este așteptată activ, pentru precizie.
+ * Întârzierea cu care sistemul trezește firul parcat este măsurată și compensată automat.
+ * Fără modul hibrid, întreaga așteptare este activă (consumă un nucleu întreg, ca bucla originală).
+ * <p>
+ * Precizia (jitter-ul: cât de târziu după termen se termină așteptarea) și proporția timpului
+ * petrecut parcat sunt raportate de {@link #report()}.
+ */
+public class FrameScheduler {
+
+    /** Dacă firul este parcat înainte de așteptarea activă. */
+    private final boolean hybrid;
+    /** Durata de la finalul așteptării care este petrecută activ, în nanosecunde. */
+    private final long spinWindowNanos;
+    /** Estimarea (medie exponențială) a întârzierii cu care sistemul trezește firul parcat. */
+    private long parkOvershootNanos;
+
+    /** Numărul de așteptări din intervalul curent de raportare. */
+    private long waits;
+    /** Suma întârzierilor față de termen din intervalul curent. */
+    private long totalLatenessNanos;
+    /** Întârzierea maximă față de termen din intervalul curent. */
+    private long maxLatenessNanos;
+    /** Timpul petrecut parcat în intervalul curent. */
+    private long parkedNanos;
+    /** Timpul total de așteptare (parcat și activ) în intervalul curent. */
+    private long waitedNanos;
+
+    /**
+     * Creează planificatorul.
+     *
+     * @param hybrid {@code true} pentru parcare urmată de așteptare activă, {@code false} pentru doar așteptare activă.
+     * @param spinWindowNanos Durata așteptării active de la finalul fiecărei așteptări, în nanosecunde.
+     */
+    public FrameScheduler(boolean hybrid, long spinWindowNanos) {
+        this.hybrid = hybrid;
+        this.spinWindowNanos = Math.max(0, spinWindowNanos);
+    }
+
+    /**
+     * Așteaptă până la momentul dat (în unitățile {@link System#nanoTime()}).
+     * Revine imediat dacă termenul a trecut deja.
+     *
+     * @param deadline Momentul până la care se așteaptă.
+     */
+    public void waitUntil(long deadline) {
+        long start = System.nanoTime();
+        long now = start;
+        if (deadline <= now) {
+            return;
+        }
+        if (hybrid) {
+            while (true) {
+                long parkFor = deadline - now - spinWindowNanos - parkOvershootNanos;
+                if (parkFor <= 0) {
+                    break;
+                }
+                LockSupport.parkNanos(parkFor);
+                long woke = System.nanoTime();
+                long overshoot = Math.max(0, (woke - now) - parkFor);
+                parkOvershootNanos += (overshoot - parkOvershootNanos) / 8;
+                parkedNanos += woke - now;
+                now = woke;
+            }
+        }
+        while ((now = System.nanoTime()) < deadline) {
+            Thread.onSpinWait();
+        }
+
+        long lateness = now - deadline;
+        waits++;
+        totalLatenessNanos += lateness;
+        maxLatenessNanos = Math.max(maxLatenessNanos, lateness);
+        waitedNanos += now - start;
+    }
+
+    /**
+     * Returnează statisticile de la ultimul raport și începe un nou interval de măsurare.
+     *
+     * @return Un text cu jitter-ul mediu și maxim (în microsecunde) și proporția timpului de așteptare petrecut parcat.
+     */
+    public String report() {
+        long meanMicros = waits == 0 ? 0 : totalLatenessNanos / waits / 1000;
+        long parkedPercent = waitedNanos == 0 ? 0 : parkedNanos * 100 / waitedNanos;
+        String text = "jitter mediu: " + meanMicros + " us | jitter maxim: " + (maxLatenessNanos / 1000)
+                + " us | parcat: " + parkedPercent + "% din așteptare";
+        waits = 0;
+        totalLatenessNanos = 0;
+        maxLatenessNanos = 0;
+        parkedNanos = 0;
+        waitedNanos = 0;
+        return text;
+    }
+}
@@ -1,7 +1,15 @@
 package main;
 
 import java.awt.Graphics;
+import entities.AnimationSet;
 import gamestates.*;
+import utilz.AssetCache;
+import utilz.AssetPreloader;
+import utilz.Constants;
+import utilz.LoadSave;
+import utilz.PackedSheet;
+import utilz.RasterCache;
+import utilz.SimulationClock;
 
 /**
  * Clasa principală a jocului, responsabilă pentru gestionarea stărilor de joc,
@@ -31,8 +39,20 @@ public class Game implements Runnable {
 
     /** Numărul țintă de cadre pe secundă (Frames Per Second). */
     private final double FPS_SET = 60;
-    /** Numărul țintă de actualizări logice pe secundă (Updates Per Second). */
-    private final double UPS_SET = 120;
+    /** Numărul țintă de actualizări logice pe secundă (Updates Per Second), vezi {@link SimulationClock#UPS}. */
+    private final double UPS_SET = SimulationClock.UPS;
+    /**
+     * Activează randarea activă (desenare directă din firul jocului printr-un {@link java.awt.image.BufferStrategy}).
+     * Dacă este {@code false}, sau strategia nu poate fi creată, se folosește desenarea Swing prin {@code repaint()}.
+     */
+    public final static boolean ACTIVE_RENDERING = true;
+
+    /**
+     * Momentul ({@link System#nanoTime()}) corespunzător actualizării logice în curs; folosit de desenare
+     * pentru a interpola pozițiile între actualizări.
+     */
+    private volatile long tickNanos = System.nanoTime();
+    private Thread renderThread;   // Firul de randare, dacă desenarea rulează separat (vezi Constants.GameLoop)
 
     // Instanțe pentru fiecare stare de joc
     private Playing playing;
@@ -41,6 +61,10 @@ public class Game implements Runnable {
     private Loadgame loadgame;
     private Leaderboard leaderboard;
     private EnterNameOverlay enterNameOverlay;
+    /** Ecranul de încărcare, afișat cât timp resursele sunt preîncărcate. */
+    private Loading loading;
+    /** Încărcătorul resurselor și al stărilor de joc. */
+    private AssetPreloader preloader;
 
     /** Dimensiunea implicită a unui tile (în pixeli) înainte de scalare. */
     public final static int TILES_DEFAULT_SIZE = 60;
@@ -61,27 +85,50 @@ public class Game implements Runnable {
 
     /**
      * Constructor pentru clasa Game.
-     * Inițializează toate clasele necesare, panoul de joc, fereastra
-     * și pornește bucla principală a jocului.
+     * Pornește preîncărcarea resurselor, creează panoul de joc și fereastra
+     * și pornește bucla principală a jocului, care afișează ecranul de încărcare
+     * până când toate stările de joc sunt construite.
      */
     public Game() {
-        initClasses();
+        initPreloader();
         gamePanel = new GamePanel(this);
         gameWindow = new GameWindow(gamePanel);
-        gamePanel.requestFocus(); // Solicită focusul pentru panoul de joc pentru a primi input
+        gamePanel.requestInputFocus(); // Solicită focusul pentru panoul de joc pentru a primi input
         startGameLoop();
     }
 
     /**
-     * Inițializează toate instanțele stărilor de joc.
+     * Configurează și pornește preîncărcarea: imaginile independente sunt decodate concurent,
+     * apoi stările de joc sunt construite pe rând, din imaginile deja aflate în cache.
+     */
+    private void initPreloader() {
+        preloader = new AssetPreloader();
+        for (String image : LoadSave.PRELOADED_IMAGES) {
+            preloader.submit(image, () -> LoadSave.getSpriteAtlas(image));
+        }
+        for (String sheet : LoadSave.PRELOADED_SPRITESHEETS) {
+            preloader.submit(sheet, () -> {
+                if (PackedSheet.load(sheet) == null) {
+                    LoadSave.getSpriteAtlas(sheet);
+                }
+            });
+        }
+        preloader.submit(LoadSave.START_BACKGROUND, LoadSave::getStartBackground);
+        initClasses();
+        loading = new Loading(this, preloader);
+        preloader.start();
+    }
+
+    /**
+     * Adaugă la preîncărcare construirea tuturor instanțelor stărilor de joc.
      */
     private void initClasses() {
-        menu = new Menu(this);
-        playing = new Playing(this);
-        options = new Options(this);
-        loadgame = new Loadgame(this);
-        leaderboard = new Leaderboard(this);
-        enterNameOverlay = new EnterNameOverlay(this);
+        preloader.then("Menu", () -> menu = new Menu(this));
+        preloader.then("Playing", () -> playing = new Playing(this));
+        preloader.then("Options", () -> options = new Options(this));
+        preloader.then("Loadgame", () -> loadgame = new Loadgame(this));
+        preloader.then("Leaderboard", () -> leaderboard = new Leaderboard(this));
+        preloader.then("EnterNameOverlay", () -> enterNameOverlay = new EnterNameOverlay(this));
     }
 
     /**
@@ -96,6 +143,7 @@ public class Game implements Runnable {
      * Actualizează logica jocului în funcție de starea curentă ({@link Gamestate}).
      * Deleagă actualizarea către metoda {@code update} a stării active.
      * În cazul stării QUIT, închide aplicația.
+     * Fiecare apel corespunde unui pas fix de timp simulat ({@link SimulationClock#DT}).
      */
     public void update() {
         switch (Gamestate.state) {
@@ -117,8 +165,14 @@ public class Game implements Runnable {
             case ENTER_NAME:
                 enterNameOverlay.update();
                 break;
+            case LOADING:
+                loading.update();
+                break;
             case QUIT:
             default:
+                AnimationSet.printFlipStats(); // Raportează memoria economisită de cadrele inversate la cerere
+                AssetCache.printStats(); // Raportează reutilizarea imaginilor în memorie și pe disc
+                RasterCache.printStats();
                 System.exit(0); // Închide aplicația
                 break;
         }
@@ -150,6 +204,9 @@ public class Game implements Runnable {
             case ENTER_NAME:
                 enterNameOverlay.draw(g);
                 break;
+            case LOADING:
+                loading.draw(g);
+                break;
             default:
                 break;
         }
@@ -158,9 +215,24 @@ public class Game implements Runnable {
     /**
      * Metoda principală a buclei jocului, implementată din interfața {@link Runnable}.
      * Gestionează sincronizarea actualizărilor logice (UPS) și a cadrelor desenate (FPS).
+     * Între termene, firul jocului așteaptă prin {@link FrameScheduler}, în loc să ruleze continuu.
+     * <p>
+     * Actualizările au pas fix: dacă bucla a rămas în urmă, sunt rulate mai multe actualizări la rând,
+     * cel mult {@link Constants.GameLoop#MAX_UPDATES_PER_FRAME}; restul întârzierii este abandonat și numărat,
+     * astfel încât viteza jocului rămâne corectă, iar bucla nu intră într-un ciclu de recuperare fără sfârșit.
+     * <p>
+     * Dacă {@link Constants.GameLoop#SEPARATE_RENDER_THREAD} este activ, cadrele sunt desenate de un fir separat
+     * ({@link #runRenderLoop()}), iar acest fir rulează doar actualizările.
      */
     @Override
     public void run() {
+        boolean separateRender = Constants.GameLoop.SEPARATE_RENDER_THREAD;
+        if (separateRender) {
+            renderThread = new Thread(this::runRenderLoop, "render");
+            renderThread.setDaemon(true); // Nu ține aplicația pornită după închiderea buclei jocului
+            renderThread.start();
+        }
+
         double timePerFrame = 1_000_000_000.0 / FPS_SET; // Timpul alocat per cadru, în nanosecunde
         double timePerUpdate = 1_000_000_000.0 / UPS_SET; // Timpul alocat per actualizare logică
 
@@ -168,7 +240,10 @@ public class Game implements Runnable {
 
         int frames = 0; // Contor pentru cadrele desenate
         int updates = 0; // Contor pentru actualizările logice
+        long skippedUpdates = 0; // Actualizări abandonate în ultima secundă (simularea rămăsese prea mult în urmă)
+        long skippedFrames = 0; // Cadre nedesenate în ultima secundă (bucla rămăsese în urmă)
         long lastCheck = System.currentTimeMillis(); // Pentru afișarea FPS/UPS la fiecare secundă
+        FrameScheduler scheduler = new FrameScheduler(Constants.GameLoop.HYBRID_SCHEDULER, Constants.GameLoop.SPIN_WINDOW_NANOS);
         
         double deltaU = 0; // Acumulator pentru timpul scurs pentru actualizări
         double deltaF = 0; // Acumulator pentru timpul scurs pentru cadre
@@ -176,33 +251,119 @@ public class Game implements Runnable {
         while (true) {  // Bucla infinită a jocului
             long currentTime = System.nanoTime(); // Timpul curent
             deltaU += (currentTime - previousTime) / timePerUpdate;
-            deltaF += (currentTime - previousTime) / timePerFrame;
+            if (!separateRender) {
+                deltaF += (currentTime - previousTime) / timePerFrame;
+            }
             previousTime = currentTime;
 
-            // Efectuează actualizările logice dacă s-a scurs suficient timp
-            if(deltaU >= 1){
+            // Efectuează actualizările logice pentru tot timpul scurs, în limita maximă per iterație
+            int steps = 0;
+            while (deltaU >= 1 && steps < Constants.GameLoop.MAX_UPDATES_PER_FRAME) {
+                tickNanos = currentTime - (long) ((deltaU - 1) * timePerUpdate); // Momentul la care era datorată
                 update();
                 updates++;
+                steps++;
                 deltaU--;
             }
+            if (deltaU >= 1) { // Simularea a rămas prea mult în urmă: abandonează restul întârzierii
+                long dropped = (long) deltaU;
+                skippedUpdates += dropped;
+                deltaU -= dropped;
+                tickNanos = currentTime - (long) (deltaU * timePerUpdate);
+            }
             
             // Desenează un nou cadru dacă s-a scurs suficient timp
             if(deltaF >= 1){
-                gamePanel.repaint(); // Solicită redesenarea panoului
+                gamePanel.renderFrame(); // Desenează cadrul (direct sau prin redesenarea panoului)
                 frames++;
                 deltaF--;
+                if (deltaF >= 1) { // Cadrele rămase în urmă nu mai sunt desenate unul după altul
+                    long dropped = (long) deltaF;
+                    skippedFrames += dropped;
+                    deltaF -= dropped;
+                }
             }
 
             // Afișează FPS și UPS la fiecare secundă (pentru depanare)
             if(System.currentTimeMillis() - lastCheck >= 1000){
-                System.out.println("FPS: " + frames + " | UPS: " + updates);
+                if (separateRender) { // FPS-ul este afișat de firul de randare
+                    System.out.println("UPS: " + updates
+                            + " | actualizări abandonate: " + skippedUpdates
+                            + " | " + scheduler.report());
+                } else {
+                    System.out.println("FPS: " + frames + " | UPS: " + updates
+                            + " | actualizări abandonate: " + skippedUpdates
+                            + " | cadre abandonate: " + skippedFrames
+                            + " | " + scheduler.report());
+                }
+                skippedUpdates = 0;
+                skippedFrames = 0;
                 frames = 0;
                 lastCheck = System.currentTimeMillis();
                 updates = 0;
             }
+
+            // Așteaptă (fără a ocupa procesorul) până la următoarea actualizare sau următorul cadru
+            long nextUpdate = previousTime + (long) ((1 - deltaU) * timePerUpdate);
+            if (separateRender) {
+                scheduler.waitUntil(nextUpdate);
+            } else {
+                long nextFrame = previousTime + (long) ((1 - deltaF) * timePerFrame);
+                scheduler.waitUntil(Math.min(nextUpdate, nextFrame));
+            }
         }
     }
 
+    /**
+     * Bucla firului de randare, folosită când {@link Constants.GameLoop#SEPARATE_RENDER_THREAD} este activ.
+     * Desenează cadrele la {@code FPS_SET}, în paralel cu actualizările; lumea de joc este desenată din ultima
+     * listă publicată de firul jocului (vezi {@link entities.WorldSnapshot}), fără blocări.
+     * Cadrele rămase în urmă sunt abandonate și numărate, ca în bucla combinată.
+     */
+    private void runRenderLoop() {
+        double timePerFrame = 1_000_000_000.0 / FPS_SET; // Timpul alocat per cadru, în nanosecunde
+        long previousTime = System.nanoTime();
+        int frames = 0;
+        long skippedFrames = 0; // Cadre nedesenate în ultima secundă
+        long lastCheck = System.currentTimeMillis();
+        FrameScheduler scheduler = new FrameScheduler(Constants.GameLoop.HYBRID_SCHEDULER, Constants.GameLoop.SPIN_WINDOW_NANOS);
+        double deltaF = 0;
+
+        while (true) {
+            long currentTime = System.nanoTime();
+            deltaF += (currentTime - previousTime) / timePerFrame;
+            previousTime = currentTime;
+
+            if (deltaF >= 1) {
+                gamePanel.renderFrame();
+                frames++;
+                deltaF--;
+                if (deltaF >= 1) {
+                    long dropped = (long) deltaF;
+                    skippedFrames += dropped;
+                    deltaF -= dropped;
+                }
+            }
+
+            if (System.currentTimeMillis() - lastCheck >= 1000) {
+                System.out.println("FPS: " + frames
+                        + " | cadre abandonate: " + skippedFrames
+                        + " | randare: " + scheduler.report());
+                skippedFrames = 0;
+                frames = 0;
+                lastCheck = System.currentTimeMillis();
+            }
+
+            scheduler.waitUntil(previousTime + (long) ((1 - deltaF) * timePerFrame));
+        }
+    }
+
+    /**
+     * Returnează momentul ({@link System#nanoTime()}) corespunzător actualizării logice curente.
+     * @return Momentul actualizării, în nanosecunde.
+     */
+    public long getTickNanos() { return tickNanos; }
+
     /**
      * Metodă apelată când fereastra jocului pierde focusul.
      * Dacă starea curentă este PLAYING, resetează flag-urile de direcție ale jucătorului.
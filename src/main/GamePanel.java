@@ -6,6 +6,7 @@ import inputs.MouseInputs;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferStrategy;
 
 import static main.Game.GAME_HEIGHT;
 import static main.Game.GAME_WIDTH;
@@ -14,14 +15,25 @@ import static main.Game.GAME_WIDTH;
  * Panoul principal al jocului, extinzând {@link JPanel}.
  * Acesta este componenta Swing pe care se desenează întregul joc.
  * De asemenea, inițializează și atașează listener-ii pentru input-ul de la tastatură și mouse.
+ * <p>
+ * În modul de randare activă, panoul conține un {@link Canvas} cu un {@link BufferStrategy},
+ * pe care firul jocului desenează și afișează direct fiecare cadru. Dacă strategia de buffere
+ * nu poate fi creată, se revine la desenarea Swing prin {@link #repaint()}.
  */
 public class GamePanel extends JPanel {
+    /** Numărul de buffere folosite de strategia de randare activă. */
+    private static final int NUM_BUFFERS = 3;
+
     /** Listener pentru input-ul de la tastatură. */
     private KeyboardInputs keyboardInputs; // Redenumit pentru convenție (keyboardInputs)
     /** Listener pentru input-ul de la mouse. */
     private MouseInputs mouseInputs; // Redenumit pentru convenție (mouseInputs)
     /** Referință la instanța principală a jocului {@link Game}. */
     private Game game;
+    /** Suprafața de desenare pentru randarea activă ({@code null} în modul Swing). */
+    private Canvas canvas;
+    /** Strategia de buffere a suprafeței de desenare ({@code null} în modul Swing). */
+    private BufferStrategy bufferStrategy;
 
     /**
      * Constructor pentru GamePanel.
@@ -36,10 +48,91 @@ public class GamePanel extends JPanel {
         this.mouseInputs = new MouseInputs(this);   // Folosind this.mouseInputs
         
         setPanelSize();
-        addKeyListener(this.keyboardInputs);
-        addMouseListener(this.mouseInputs);
-        addMouseMotionListener(this.mouseInputs);
-        addMouseWheelListener(this.mouseInputs); // Adaugă și MouseWheelListener
+        if (Game.ACTIVE_RENDERING) {
+            initCanvas();
+        }
+        Component inputTarget = canvas != null ? canvas : this;
+        inputTarget.addKeyListener(this.keyboardInputs);
+        inputTarget.addMouseListener(this.mouseInputs);
+        inputTarget.addMouseMotionListener(this.mouseInputs);
+        inputTarget.addMouseWheelListener(this.mouseInputs); // Adaugă și MouseWheelListener
+    }
+
+    /**
+     * Creează suprafața de desenare pentru randarea activă, care ocupă tot panoul.
+     * Evenimentele de repaint ale sistemului sunt ignorate, desenarea fiind făcută de firul jocului.
+     */
+    private void initCanvas() {
+        canvas = new Canvas();
+        canvas.setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
+        canvas.setIgnoreRepaint(true);
+        canvas.setFocusable(true);
+        setLayout(new BorderLayout());
+        add(canvas, BorderLayout.CENTER);
+    }
+
+    /**
+     * Creează strategia de buffere pentru randarea activă.
+     * Trebuie apelată după ce fereastra a devenit vizibilă. În caz de eșec,
+     * panoul revine la desenarea Swing.
+     */
+    public void initBufferStrategy() {
+        if (canvas == null) return;
+        try {
+            canvas.createBufferStrategy(NUM_BUFFERS);
+            bufferStrategy = canvas.getBufferStrategy();
+        } catch (Exception e) {
+            System.err.println("Randarea activă nu este disponibilă, se folosește desenarea Swing: " + e.getMessage());
+            bufferStrategy = null;
+        }
+        if (bufferStrategy == null) {
+            remove(canvas);
+            canvas = null;
+            addKeyListener(this.keyboardInputs);
+            addMouseListener(this.mouseInputs);
+            addMouseMotionListener(this.mouseInputs);
+            addMouseWheelListener(this.mouseInputs);
+            revalidate();
+        }
+    }
+
+    /**
+     * Solicită focusul pentru componenta care primește input-ul (suprafața de desenare sau panoul).
+     */
+    public void requestInputFocus() {
+        if (canvas != null) {
+            canvas.requestFocus();
+        } else {
+            requestFocus();
+        }
+    }
+
+    /**
+     * Desenează și afișează un nou cadru.
+     * În modul de randare activă, cadrul este desenat direct pe firul apelant în bufferul
+     * din spate și afișat cu {@link BufferStrategy#show()}; dacă conținutul bufferelor
+     * este pierdut sau restaurat între timp, cadrul este redesenat.
+     * În modul Swing, se solicită doar redesenarea panoului.
+     */
+    public void renderFrame() {
+        if (bufferStrategy == null) {
+            repaint();
+            return;
+        }
+        do {
+            do {
+                Graphics g = bufferStrategy.getDrawGraphics();
+                try {
+                    g.setColor(Color.BLACK);
+                    g.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
+                    game.render(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync(); // Evită întârzierea afișării pe unele sisteme (de ex., Linux)
     }
 
     /**
@@ -72,6 +165,7 @@ public class GamePanel extends JPanel {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g); // Apelează metoda din clasa părinte pentru desenarea corectă a componentelor Swing
+        if (bufferStrategy != null) return; // În modul de randare activă desenează firul jocului
         game.render(g); // Deleagă desenarea către obiectul Game
     }
 
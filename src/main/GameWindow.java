@@ -40,6 +40,7 @@ public class GameWindow {
         jframe.pack(); // Dimensionează fereastra pentru a se potrivi cu conținutul preferat (GamePanel)
         jframe.setLocationRelativeTo(null); // Centrează fereastra pe ecran
         jframe.setVisible(true); // Face fereastra vizibilă
+        gamePanel.initBufferStrategy(); // Strategia de buffere poate fi creată doar după afișarea ferestrei
 
         // Adaugă un listener pentru a detecta pierderea focusului ferestrei
         jframe.addWindowFocusListener(new WindowFocusListener() {
@@ -0,0 +1,192 @@
+package utilz;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache central pentru imaginile jocului, indexat după calea resursei.
+ * Fiecare imagine este decodată o singură dată și partajată între toți utilizatorii.
+ * <p>
+ * Imaginile obținute cu {@link #get(String, Supplier)} sunt păstrate prin referințe
+ * "soft", deci pot fi eliberate de garbage collector când memoria devine insuficientă
+ * și nimeni altcineva nu le mai folosește. Imaginile obținute cu {@link #acquire(String, Supplier)}
+ * sunt reținute până la apelul corespunzător {@link #release(String)} (numărare de referințe),
+ * de exemplu atlasele unui nivel cât timp nivelul este activ.
+ * <p>
+ * Statisticile (încărcări, reutilizări, octeți rezidenți) sunt disponibile prin
+ * {@link #getLoads()}, {@link #getHits()} și {@link #getResidentBytes()}.
+ */
+public class AssetCache {
+
+    /**
+     * O intrare din cache: imaginea (referință soft și, dacă este reținută, referință puternică)
+     * și numărul de utilizatori care au reținut-o.
+     */
+    private static class Entry {
+        /** Referința soft către imagine. */
+        SoftReference<BufferedImage> soft = new SoftReference<>(null);
+        /** Referința puternică, păstrată cât timp {@code refCount > 0}. */
+        BufferedImage pinned;
+        /** Numărul de utilizatori care au reținut imaginea. */
+        int refCount;
+        /** Dimensiunea estimată a imaginii în memorie, în octeți. */
+        long bytes;
+    }
+
+    /** Intrările cache-ului, după cheie (calea resursei). */
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** Numărul de imagini decodate (încărcări efective). */
+    private static final AtomicLong loads = new AtomicLong();
+    /** Numărul de cereri servite din cache. */
+    private static final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Returnează imaginea pentru cheia dată, încărcând-o la prima cerere.
+     * Imaginea nu este reținută explicit (poate fi eliberată sub presiune de memorie).
+     *
+     * @param key Cheia imaginii (de obicei numele fișierului din "/res/").
+     * @param loader Funcția care încarcă imaginea dacă nu este în cache.
+     * @return Imaginea sau {@code null} dacă încărcarea a eșuat.
+     */
+    public static BufferedImage get(String key, Supplier<BufferedImage> loader) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        synchronized (entry) {
+            return resolve(entry, loader);
+        }
+    }
+
+    /**
+     * Returnează imaginea pentru cheia dată și o reține până la apelul {@link #release(String)}.
+     *
+     * @param key Cheia imaginii (de obicei numele fișierului din "/res/").
+     * @param loader Funcția care încarcă imaginea dacă nu este în cache.
+     * @return Imaginea sau {@code null} dacă încărcarea a eșuat.
+     */
+    public static BufferedImage acquire(String key, Supplier<BufferedImage> loader) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        synchronized (entry) {
+            BufferedImage img = resolve(entry, loader);
+            if (img != null) {
+                entry.refCount++;
+                entry.pinned = img;
+            }
+            return img;
+        }
+    }
+
+    /**
+     * Eliberează o reținere obținută cu {@link #acquire(String, Supplier)}.
+     * Când nu mai există rețineri, imaginea rămâne în cache doar prin referința soft.
+     *
+     * @param key Cheia imaginii.
+     */
+    public static void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return;
+        synchronized (entry) {
+            if (entry.refCount > 0 && --entry.refCount == 0) {
+                entry.pinned = null;
+            }
+        }
+    }
+
+    /**
+     * Verifică dacă imaginea pentru cheia dată este încă în memorie.
+     *
+     * @param key Cheia imaginii.
+     * @return {@code true} dacă imaginea este în cache.
+     */
+    public static boolean isResident(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.soft.get() != null;
+    }
+
+    /**
+     * Returnează numărul de imagini decodate efectiv (cereri care nu au fost servite din cache).
+     * @return Numărul de încărcări.
+     */
+    public static long getLoads() {
+        return loads.get();
+    }
+
+    /**
+     * Returnează numărul de cereri servite din cache.
+     * @return Numărul de reutilizări.
+     */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Calculează memoria ocupată de imaginile aflate încă în cache.
+     * @return Numărul estimat de octeți.
+     */
+    public static long getResidentBytes() {
+        long total = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.soft.get() != null) {
+                total += entry.bytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returnează numărul de imagini aflate încă în cache.
+     * @return Numărul de imagini rezidente.
+     */
+    public static int getResidentCount() {
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.soft.get() != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Afișează în consolă statisticile cache-ului.
+     */
+    public static void printStats() {
+        System.out.println("AssetCache: " + getResidentCount() + " imagini rezidente, "
+                + (getResidentBytes() / 1024) + " KB, încărcări: " + getLoads() + ", reutilizări: " + getHits());
+    }
+
+    /**
+     * Returnează imaginea unei intrări, încărcând-o dacă nu este (sau nu mai este) în memorie.
+     * Trebuie apelată cu monitorul intrării deținut.
+     *
+     * @param entry Intrarea din cache.
+     * @param loader Funcția de încărcare.
+     * @return Imaginea sau {@code null} dacă încărcarea a eșuat.
+     */
+    private static BufferedImage resolve(Entry entry, Supplier<BufferedImage> loader) {
+        BufferedImage img = entry.soft.get();
+        if (img != null) {
+            hits.incrementAndGet();
+            return img;
+        }
+        img = loader.get();
+        if (img != null) {
+            loads.incrementAndGet();
+            entry.soft = new SoftReference<>(img);
+            entry.bytes = estimateBytes(img);
+        }
+        return img;
+    }
+
+    /**
+     * Estimează memoria ocupată de datele unei imagini.
+     *
+     * @param img Imaginea.
+     * @return Numărul estimat de octeți.
+     */
+    public static long estimateBytes(BufferedImage img) {
+        DataBuffer db = img.getRaster().getDataBuffer();
+        return (long) db.getSize() * db.getNumBanks() * (DataBuffer.getDataTypeSize(db.getDataType()) / 8);
+    }
+}
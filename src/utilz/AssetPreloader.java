@@ -0,0 +1,165 @@
+package utilz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preîncarcă resursele jocului pe fire de execuție separate, în timp ce fereastra
+ * afișează deja ecranul de încărcare.
+ * <p>
+ * Încărcarea are două etape:
+ * <ol>
+ *   <li>sarcinile independente (de ex., decodarea imaginilor în {@link AssetCache}),
+ *       rulate concurent pe un număr limitat de fire de execuție;</li>
+ *   <li>sarcinile care depind de prima etapă (de ex., construirea stărilor de joc),
+ *       rulate pe rând, în ordinea adăugării, după terminarea tuturor sarcinilor din prima etapă.</li>
+ * </ol>
+ * Progresul poate fi citit din orice fir de execuție cu {@link #getProgress()}.
+ */
+public class AssetPreloader {
+
+    /** Numărul maxim de fire de execuție pentru sarcinile concurente. */
+    private static final int MAX_THREADS = 4;
+
+    /** Sarcinile din prima etapă (concurente). */
+    private final List<Runnable> parallelTasks = new ArrayList<>();
+    /** Numele sarcinilor din prima etapă, pentru mesajele de eroare. */
+    private final List<String> parallelNames = new ArrayList<>();
+    /** Sarcinile din a doua etapă (secvențiale). */
+    private final List<Runnable> sequentialTasks = new ArrayList<>();
+    /** Numele sarcinilor din a doua etapă. */
+    private final List<String> sequentialNames = new ArrayList<>();
+
+    /** Numărul de sarcini terminate. */
+    private final AtomicInteger completed = new AtomicInteger();
+    /** Numele sarcinii secvențiale în curs (pentru afișare). */
+    private volatile String currentTask = "";
+    /** Indică dacă toate sarcinile s-au terminat. */
+    private volatile boolean done = false;
+    /** Momentul pornirii încărcării, în nanosecunde. */
+    private long startTime;
+    /** Durata totală a încărcării, în milisecunde. */
+    private volatile long elapsedMillis;
+
+    /**
+     * Adaugă o sarcină independentă, care poate rula concurent cu celelalte.
+     *
+     * @param name Numele sarcinii (de ex., numele fișierului încărcat).
+     * @param task Sarcina de executat.
+     */
+    public void submit(String name, Runnable task) {
+        parallelNames.add(name);
+        parallelTasks.add(task);
+    }
+
+    /**
+     * Adaugă o sarcină care rulează după terminarea tuturor sarcinilor independente.
+     *
+     * @param name Numele sarcinii (afișat pe ecranul de încărcare).
+     * @param task Sarcina de executat.
+     */
+    public void then(String name, Runnable task) {
+        sequentialNames.add(name);
+        sequentialTasks.add(task);
+    }
+
+    /**
+     * Pornește încărcarea. Metoda revine imediat; sarcinile rulează pe fire de execuție separate.
+     */
+    public void start() {
+        startTime = System.nanoTime();
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-preloader-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < parallelTasks.size(); i++) {
+            futures.add(executor.submit(wrap(parallelNames.get(i), parallelTasks.get(i))));
+        }
+        executor.shutdown();
+
+        Thread coordinator = new Thread(() -> {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    // Erorile sunt deja raportate de sarcina însăși
+                }
+            }
+            for (int i = 0; i < sequentialTasks.size(); i++) {
+                currentTask = sequentialNames.get(i);
+                wrap(sequentialNames.get(i), sequentialTasks.get(i)).run();
+            }
+            elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+            System.out.println("Preîncărcare terminată în " + elapsedMillis + " ms (" + threads + " fire de execuție).");
+            done = true;
+        }, "asset-preloader-main");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    /**
+     * Returnează progresul încărcării.
+     * @return O valoare între 0.0 și 1.0.
+     */
+    public float getProgress() {
+        int total = parallelTasks.size() + sequentialTasks.size();
+        return total == 0 ? 1f : (float) completed.get() / total;
+    }
+
+    /**
+     * Verifică dacă toate sarcinile s-au terminat.
+     * @return {@code true} dacă încărcarea s-a terminat.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Returnează numele sarcinii secvențiale în curs.
+     * @return Numele sarcinii sau un șir gol în prima etapă.
+     */
+    public String getCurrentTask() {
+        return currentTask;
+    }
+
+    /**
+     * Returnează durata totală a încărcării.
+     * @return Durata în milisecunde (0 dacă încărcarea nu s-a terminat).
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Învelește o sarcină astfel încât erorile să fie raportate și progresul să fie actualizat.
+     *
+     * @param name Numele sarcinii.
+     * @param task Sarcina de executat.
+     * @return Sarcina învelită.
+     */
+    private Runnable wrap(String name, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("Eroare la preîncărcarea \"" + name + "\": " + e.getMessage());
+                e.printStackTrace();
+            } finally {
+                completed.incrementAndGet();
+            }
+        };
+    }
+}
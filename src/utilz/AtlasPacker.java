@@ -0,0 +1,204 @@
+package utilz;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Program (rulat offline, nu în timpul jocului) care transformă un spritesheet cu celule
+ * de dimensiune fixă într-un atlas compact: fiecare cadru este decupat la dreptunghiul
+ * pixelilor vizibili (marginile transparente sunt eliminate), iar cadrele sunt așezate
+ * strâns pe rânduri. Pentru fiecare atlas se scrie și un fișier de metadate ({@code .atlas})
+ * cu dreptunghiul fiecărui cadru și decalajul lui față de colțul celulei originale,
+ * citit la rulare de {@link PackedSheet}.
+ * <p>
+ * Rulare:
+ * <ul>
+ *   <li>{@code java utilz.AtlasPacker} - împachetează toate spritesheet-urile cunoscute din {@code src/res};</li>
+ *   <li>{@code java utilz.AtlasPacker fisier.png latimeCelula inaltimeCelula [dirResurse]} - un singur spritesheet.</li>
+ * </ul>
+ * Rezultatele sunt scrise în {@code <dirResurse>/packed/}.
+ */
+public class AtlasPacker {
+
+    /** Directorul implicit cu resursele jocului. */
+    private static final String DEFAULT_RES_DIR = "src/res";
+    /** Lățimea maximă a atlasului generat, în pixeli. */
+    private static final int MAX_ATLAS_WIDTH = 2048;
+    /** Spațiul liber lăsat între cadre, pentru ca scalarea biliniară să nu preia pixeli din cadrele vecine. */
+    private static final int PADDING = 1;
+
+    /**
+     * Un cadru decupat, împreună cu poziția lui în celula originală și în atlas.
+     */
+    private static class Frame {
+        int row, col;
+        int offsetX, offsetY, width, height;
+        int atlasX, atlasY;
+        BufferedImage image;
+    }
+
+    /**
+     * Punctul de intrare al programului.
+     *
+     * @param args Opțional: numele fișierului, dimensiunile celulei și directorul resurselor.
+     * @throws IOException Dacă un fișier nu poate fi citit sau scris.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3) {
+            String resDir = args.length > 3 ? args[3] : DEFAULT_RES_DIR;
+            pack(new File(resDir), args[0], Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+        File resDir = new File(args.length > 0 ? args[0] : DEFAULT_RES_DIR);
+        int goblin = Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_WIDTH_DEFAULT;
+        int boss = Constants.EnemyConstants.GOBLIN_BOSS_SPRITE_SOURCE_WIDTH_DEFAULT;
+        int nanite = Constants.EnemyConstants.ENEMY_SIZE;
+        pack(resDir, LoadSave.KARAGOR_SPRITESHEET, 272, 183);
+        pack(resDir, LoadSave.GOBLIN_NOOB_SPRITESHEET, goblin, goblin);
+        pack(resDir, LoadSave.GOBLIN_HARD_SPRITESHEET, goblin, goblin);
+        pack(resDir, LoadSave.GOBLIN_BOSS_SPRITESHEET, boss, boss);
+        pack(resDir, LoadSave.GOLEM_BOSS_SPRITESHEET, boss, boss);
+        pack(resDir, LoadSave.NANITE_JUNGLA, nanite, nanite);
+        pack(resDir, LoadSave.NANITE_PESTERA, nanite, nanite);
+        pack(resDir, LoadSave.PLAYER_ATLAS, 272, 183);
+        pack(resDir, LoadSave.KOBA_RUSH, 272, 183);
+    }
+
+    /**
+     * Împachetează un spritesheet și scrie atlasul și metadatele în {@code <resDir>/packed/}.
+     * Spritesheet-urile care lipsesc sunt ignorate, cu un mesaj.
+     *
+     * @param resDir Directorul resurselor.
+     * @param sheetName Numele fișierului spritesheet.
+     * @param cellWidth Lățimea unei celule.
+     * @param cellHeight Înălțimea unei celule.
+     * @throws IOException Dacă un fișier nu poate fi citit sau scris.
+     */
+    private static void pack(File resDir, String sheetName, int cellWidth, int cellHeight) throws IOException {
+        File source = new File(resDir, sheetName);
+        if (!source.isFile()) {
+            System.err.println("AtlasPacker: spritesheet-ul nu există, este ignorat: " + source);
+            return;
+        }
+        BufferedImage sheet = ImageIO.read(source);
+        List<Frame> frames = trimFrames(sheet, cellWidth, cellHeight);
+        int[] size = layout(frames);
+
+        BufferedImage atlas = new BufferedImage(Math.max(1, size[0]), Math.max(1, size[1]), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = atlas.createGraphics();
+        for (Frame f : frames) {
+            g2d.drawImage(f.image, f.atlasX, f.atlasY, null);
+        }
+        g2d.dispose();
+
+        File outDir = new File(resDir, PackedSheet.PACKED_DIR);
+        if (!outDir.isDirectory() && !outDir.mkdirs()) {
+            throw new IOException("Nu s-a putut crea directorul " + outDir);
+        }
+        String baseName = PackedSheet.baseName(sheetName);
+        ImageIO.write(atlas, "png", new File(outDir, baseName + ".png"));
+        writeMetadata(new File(outDir, baseName + PackedSheet.METADATA_EXTENSION), baseName + ".png", cellWidth, cellHeight, frames);
+
+        long before = (long) sheet.getWidth() * sheet.getHeight();
+        long after = (long) atlas.getWidth() * atlas.getHeight();
+        System.out.printf("%s: %d cadre, %dx%d -> %dx%d (%.0f%% din pixeli)%n", sheetName, frames.size(),
+                sheet.getWidth(), sheet.getHeight(), atlas.getWidth(), atlas.getHeight(), 100.0 * after / Math.max(1, before));
+    }
+
+    /**
+     * Decupează fiecare celulă a spritesheet-ului la dreptunghiul pixelilor vizibili.
+     * Celulele complet transparente sunt omise.
+     *
+     * @param sheet Spritesheet-ul sursă.
+     * @param cellWidth Lățimea unei celule.
+     * @param cellHeight Înălțimea unei celule.
+     * @return Cadrele decupate.
+     */
+    private static List<Frame> trimFrames(BufferedImage sheet, int cellWidth, int cellHeight) {
+        List<Frame> frames = new ArrayList<>();
+        int rows = sheet.getHeight() / cellHeight;
+        int cols = sheet.getWidth() / cellWidth;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cellX = col * cellWidth;
+                int cellY = row * cellHeight;
+                int minX = cellWidth, minY = cellHeight, maxX = -1, maxY = -1;
+                for (int y = 0; y < cellHeight; y++) {
+                    for (int x = 0; x < cellWidth; x++) {
+                        if ((sheet.getRGB(cellX + x, cellY + y) >>> 24) != 0) {
+                            minX = Math.min(minX, x);
+                            maxX = Math.max(maxX, x);
+                            minY = Math.min(minY, y);
+                            maxY = Math.max(maxY, y);
+                        }
+                    }
+                }
+                if (maxX < 0) continue; // Celulă goală
+                Frame f = new Frame();
+                f.row = row;
+                f.col = col;
+                f.offsetX = minX;
+                f.offsetY = minY;
+                f.width = maxX - minX + 1;
+                f.height = maxY - minY + 1;
+                f.image = sheet.getSubimage(cellX + minX, cellY + minY, f.width, f.height);
+                frames.add(f);
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Așază cadrele pe rânduri ("rafturi"), în ordinea descrescătoare a înălțimii.
+     *
+     * @param frames Cadrele de așezat; pozițiile din atlas sunt completate de metodă.
+     * @return Dimensiunile atlasului: {@code {latime, inaltime}}.
+     */
+    private static int[] layout(List<Frame> frames) {
+        List<Frame> sorted = new ArrayList<>(frames);
+        sorted.sort((a, b) -> b.height - a.height);
+        int x = 0, y = 0, shelfHeight = 0, width = 0;
+        for (Frame f : sorted) {
+            if (x + f.width > MAX_ATLAS_WIDTH && x > 0) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            f.atlasX = x;
+            f.atlasY = y;
+            x += f.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, f.height);
+            width = Math.max(width, x - PADDING);
+        }
+        return new int[] {width, y + shelfHeight};
+    }
+
+    /**
+     * Scrie fișierul de metadate al atlasului.
+     *
+     * @param file Fișierul de metadate.
+     * @param imageName Numele imaginii atlasului, relativ la directorul metadatelor.
+     * @param cellWidth Lățimea celulei originale.
+     * @param cellHeight Înălțimea celulei originale.
+     * @param frames Cadrele din atlas.
+     * @throws IOException Dacă fișierul nu poate fi scris.
+     */
+    private static void writeMetadata(File file, String imageName, int cellWidth, int cellHeight, List<Frame> frames) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("# Generat de utilz.AtlasPacker - nu modificați manual");
+            out.println("# frame rand coloana x y latime inaltime decalajX decalajY");
+            out.println("image " + imageName);
+            out.println("cell " + cellWidth + " " + cellHeight);
+            for (Frame f : frames) {
+                out.println("frame " + f.row + " " + f.col + " " + f.atlasX + " " + f.atlasY + " "
+                        + f.width + " " + f.height + " " + f.offsetX + " " + f.offsetY);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package utilz;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Font de tip bitmap pentru fontul personalizat al jocului.
+ * Glifele caracterelor ASCII afișabile sunt rasterizate o singură dată, pentru o dimensiune
+ * și o culoare, într-un atlas de imagini; textul este apoi desenat prin copierea glifelor
+ * din atlas, fără rasterizarea TrueType la fiecare frame.
+ * Conține căi rapide pentru numere întregi și pentru cronometre în format {@code mm:ss},
+ * care nu alocă obiecte {@link String}.
+ * <p>
+ * Instanțele se obțin cu {@link #get(float, Color)} și pot fi folosite din orice stare de joc.
+ */
+public class BitmapFont {
+
+    /** Primul caracter inclus în atlas (spațiu). */
+    private static final char FIRST_CHAR = 32;
+    /** Ultimul caracter inclus în atlas ('~'). */
+    private static final char LAST_CHAR = 126;
+    /** Lățimea maximă a unui rând de glife în atlas, în pixeli. */
+    private static final int MAX_ATLAS_WIDTH = 1024;
+
+    /** Fonturile bitmap deja create, după dimensiune și culoare. */
+    private static final Map<String, BitmapFont> cache = new ConcurrentHashMap<>();
+
+    /** Fontul TrueType din care au fost rasterizate glifele (folosit pentru caracterele din afara atlasului). */
+    private final Font font;
+    /** Culoarea glifelor. */
+    private final Color color;
+    /** Imaginea cu toate glifele. */
+    private final BufferedImage atlas;
+    /** Poziția x a fiecărei glife în atlas. */
+    private final int[] glyphX;
+    /** Poziția y a fiecărei glife în atlas. */
+    private final int[] glyphY;
+    /** Lățimea celulei fiecărei glife în atlas (avansul plus marginile). */
+    private final int[] glyphWidth;
+    /** Avansul orizontal al fiecărei glife. */
+    private final int[] advance;
+    /** Marginea adăugată în stânga și în dreapta fiecărei glife, pentru părțile care depășesc avansul. */
+    private final int padding;
+    /** Distanța de la linia de bază la partea de sus a glifelor. */
+    private final int ascent;
+    /** Înălțimea unei celule din atlas. */
+    private final int cellHeight;
+    /** Buffer refolosit pentru cifrele numerelor desenate pe calea rapidă. */
+    private final char[] digits = new char[12];
+
+    /**
+     * Returnează fontul bitmap pentru dimensiunea și culoarea specificate,
+     * creându-l la prima cerere.
+     *
+     * @param size Dimensiunea fontului, în puncte.
+     * @param color Culoarea textului.
+     * @return Fontul bitmap.
+     */
+    public static BitmapFont get(float size, Color color) {
+        return cache.computeIfAbsent(size + "/" + color.getRGB(),
+                k -> new BitmapFont(FontRegistry.getAirstrikeFont(size), color));
+    }
+
+    /**
+     * Construiește atlasul de glife pentru fontul și culoarea date.
+     *
+     * @param font Fontul TrueType de rasterizat.
+     * @param color Culoarea glifelor.
+     */
+    private BitmapFont(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+        int count = LAST_CHAR - FIRST_CHAR + 1;
+        glyphX = new int[count];
+        glyphY = new int[count];
+        glyphWidth = new int[count];
+        advance = new int[count];
+        padding = Math.max(1, (int) Math.ceil(font.getSize2D() / 8f));
+
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D sg = scratch.createGraphics();
+        FontMetrics fm = sg.getFontMetrics(font);
+        ascent = fm.getAscent();
+        cellHeight = fm.getAscent() + fm.getDescent();
+        sg.dispose();
+
+        // Așază glifele pe rânduri de lățime maximă MAX_ATLAS_WIDTH
+        int x = 0, y = 0, atlasWidth = 0;
+        for (int i = 0; i < count; i++) {
+            advance[i] = fm.charWidth((char) (FIRST_CHAR + i));
+            glyphWidth[i] = advance[i] + 2 * padding;
+            if (x + glyphWidth[i] > MAX_ATLAS_WIDTH && x > 0) {
+                x = 0;
+                y += cellHeight;
+            }
+            glyphX[i] = x;
+            glyphY[i] = y;
+            x += glyphWidth[i];
+            atlasWidth = Math.max(atlasWidth, x);
+        }
+
+        atlas = LoadSave.createCompatibleImage(Math.max(1, atlasWidth), y + cellHeight, Transparency.TRANSLUCENT);
+        Graphics2D g2d = atlas.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, atlas.getWidth(), atlas.getHeight());
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setFont(font);
+        g2d.setColor(color);
+        for (int i = 0; i < count; i++) {
+            g2d.setClip(glyphX[i], glyphY[i], glyphWidth[i], cellHeight);
+            g2d.drawString(String.valueOf((char) (FIRST_CHAR + i)), glyphX[i] + padding, glyphY[i] + ascent);
+        }
+        g2d.dispose();
+    }
+
+    /**
+     * Desenează un text, cu linia de bază la poziția dată (la fel ca {@link Graphics#drawString(String, int, int)}).
+     * Dacă textul conține caractere care nu sunt în atlas, este desenat cu fontul TrueType;
+     * fontul și culoarea contextului grafic rămân neschimbate.
+     *
+     * @param g Contextul grafic pe care se desenează.
+     * @param text Textul de desenat.
+     * @param x Poziția x a începutului textului.
+     * @param y Poziția y a liniei de bază.
+     * @return Poziția x de după ultimul caracter desenat.
+     */
+    public int drawString(Graphics g, String text, int x, int y) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < FIRST_CHAR || c > LAST_CHAR) {
+                // Fontul și culoarea apelantului sunt restaurate după desenare
+                Font previousFont = g.getFont();
+                Color previousColor = g.getColor();
+                g.setFont(font);
+                g.setColor(color);
+                g.drawString(text, x, y);
+                int width = g.getFontMetrics(font).stringWidth(text);
+                g.setFont(previousFont);
+                g.setColor(previousColor);
+                return x + width;
+            }
+        }
+        for (int i = 0; i < text.length(); i++) {
+            x += drawGlyph(g, text.charAt(i), x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Desenează un număr întreg fără a crea un obiect {@link String}.
+     *
+     * @param g Contextul grafic pe care se desenează.
+     * @param value Numărul de desenat.
+     * @param x Poziția x a începutului textului.
+     * @param y Poziția y a liniei de bază.
+     * @return Poziția x de după ultimul caracter desenat.
+     */
+    public int drawInt(Graphics g, int value, int x, int y) {
+        int len = toDigits(value, 1);
+        for (int i = 0; i < len; i++) {
+            x += drawGlyph(g, digits[i], x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Desenează un timp în format {@code mm:ss} (cu cel puțin două cifre pentru minute),
+     * echivalent cu {@code String.format("%02d:%02d", ...)}, fără a crea obiecte {@link String}.
+     *
+     * @param g Contextul grafic pe care se desenează.
+     * @param totalSeconds Numărul total de secunde.
+     * @param x Poziția x a începutului textului.
+     * @param y Poziția y a liniei de bază.
+     */
+    public void drawTime(Graphics g, int totalSeconds, int x, int y) {
+        int len = toDigits(totalSeconds / 60, 2);
+        for (int i = 0; i < len; i++) {
+            x += drawGlyph(g, digits[i], x, y);
+        }
+        x += drawGlyph(g, ':', x, y);
+        len = toDigits(totalSeconds % 60, 2);
+        for (int i = 0; i < len; i++) {
+            x += drawGlyph(g, digits[i], x, y);
+        }
+    }
+
+    /**
+     * Calculează lățimea unui text desenat cu acest font.
+     *
+     * @param text Textul măsurat.
+     * @return Lățimea în pixeli.
+     */
+    public int stringWidth(String text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            width += (c < FIRST_CHAR || c > LAST_CHAR) ? advance[0] : advance[c - FIRST_CHAR];
+        }
+        return width;
+    }
+
+    /**
+     * Returnează înălțimea unei linii de text (ascent + descent).
+     * @return Înălțimea în pixeli.
+     */
+    public int getHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Copiază o glifă din atlas pe contextul grafic.
+     *
+     * @param g Contextul grafic pe care se desenează.
+     * @param c Caracterul de desenat.
+     * @param x Poziția x a glifei.
+     * @param y Poziția y a liniei de bază.
+     * @return Avansul orizontal al glifei.
+     */
+    private int drawGlyph(Graphics g, char c, int x, int y) {
+        int i = c - FIRST_CHAR;
+        int dx = x - padding;
+        int dy = y - ascent;
+        g.drawImage(atlas, dx, dy, dx + glyphWidth[i], dy + cellHeight,
+                glyphX[i], glyphY[i], glyphX[i] + glyphWidth[i], glyphY[i] + cellHeight, null);
+        return advance[i];
+    }
+
+    /**
+     * Scrie cifrele unui număr în buffer-ul {@link #digits}, completând cu zerouri la stânga.
+     *
+     * @param value Numărul de convertit.
+     * @param minDigits Numărul minim de cifre.
+     * @return Numărul de caractere scrise.
+     */
+    private int toDigits(int value, int minDigits) {
+        boolean negative = value < 0;
+        long v = Math.abs((long) value);
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + (v % 10));
+            v /= 10;
+        } while (v > 0 || digits.length - pos < minDigits);
+        if (negative) digits[--pos] = '-';
+        int len = digits.length - pos;
+        System.arraycopy(digits, pos, digits, 0, len);
+        return len;
+    }
+}
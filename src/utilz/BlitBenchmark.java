@@ -0,0 +1,165 @@
+package utilz;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+import main.Game;
+
+/**
+ * Program de măsurare a vitezei de desenare (blit) a cadrelor de animație.
+ * Compară cadrele extrase din imaginea decodată direct de {@link ImageIO}
+ * cu cele extrase din imaginea convertită de {@link LoadSave#getSpriteAtlas(String)}
+ * în formatul compatibil cu ecranul.
+ * <p>
+ * Rulare: {@code java utilz.BlitBenchmark [numeFisier] [numarDesenari]}
+ */
+public class BlitBenchmark {
+
+    /** Spritesheet-ul implicit folosit pentru măsurare. */
+    private static final String DEFAULT_SHEET = LoadSave.GOBLIN_NOOB_SPRITESHEET;
+    /** Dimensiunea unui cadru din spritesheet-ul implicit. */
+    private static final int FRAME_SIZE = Constants.EnemyConstants.GOBLIN_SPRITE_SOURCE_WIDTH_DEFAULT;
+    /** Numărul implicit de desenări per măsurătoare. */
+    private static final int DEFAULT_BLITS = 20000;
+
+    /**
+     * Punctul de intrare al programului de măsurare.
+     *
+     * @param args Opțional: numele fișierului din "/res/" și numărul de desenări.
+     */
+    public static void main(String[] args) {
+        String sheetName = args.length > 0 ? args[0] : DEFAULT_SHEET;
+        int blits = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BLITS;
+
+        BufferedImage decoded = readRaw(sheetName);
+        BufferedImage converted = LoadSave.getSpriteAtlas(sheetName);
+        if (decoded == null || converted == null) {
+            System.err.println("BlitBenchmark: nu s-a putut încărca " + sheetName);
+            return;
+        }
+
+        BufferedImage[] decodedFrames = cutFrames(decoded);
+        BufferedImage[] convertedFrames = cutFrames(converted);
+        Image target = createTarget();
+
+        // Încălzire, pentru ca ambele variante să fie măsurate după compilarea JIT
+        blit(target, decodedFrames, blits / 4);
+        blit(target, convertedFrames, blits / 4);
+
+        long before = blit(target, decodedFrames, blits);
+        long after = blit(target, convertedFrames, blits);
+
+        System.out.println("Spritesheet: " + sheetName + " (" + decodedFrames.length + " cadre)");
+        System.out.println("Tip imagine decodată: " + decoded.getType() + ", tip imagine convertită: " + converted.getType());
+        report("ImageIO (înainte)", blits, before);
+        report("Compatibil (după)", blits, after);
+        System.out.printf("Accelerare: %.2fx%n", (double) before / Math.max(1, after));
+    }
+
+    /**
+     * Citește o imagine din resurse fără nicio conversie de format.
+     *
+     * @param filename Numele fișierului din "/res/".
+     * @return Imaginea decodată sau {@code null} în caz de eroare.
+     */
+    private static BufferedImage readRaw(String filename) {
+        try (InputStream is = BlitBenchmark.class.getResourceAsStream("/res/" + filename)) {
+            return is != null ? ImageIO.read(is) : null;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Extrage cadrele de dimensiune {@link #FRAME_SIZE} din spritesheet, la fel ca la încărcarea inamicilor.
+     *
+     * @param sheet Spritesheet-ul sursă.
+     * @return Cadrele extrase.
+     */
+    private static BufferedImage[] cutFrames(BufferedImage sheet) {
+        int cols = sheet.getWidth() / FRAME_SIZE;
+        int rows = sheet.getHeight() / FRAME_SIZE;
+        BufferedImage[] frames = new BufferedImage[Math.max(1, cols * rows)];
+        int index = 0;
+        for (int j = 0; j < rows; j++) {
+            for (int i = 0; i < cols; i++) {
+                frames[index++] = sheet.getSubimage(i * FRAME_SIZE, j * FRAME_SIZE, FRAME_SIZE, FRAME_SIZE);
+            }
+        }
+        if (index == 0) frames[0] = sheet;
+        return frames;
+    }
+
+    /**
+     * Creează suprafața pe care se desenează: o imagine volatilă (accelerată) când există ecran,
+     * altfel o imagine compatibilă obișnuită.
+     *
+     * @return Suprafața de desenare.
+     */
+    private static Image createTarget() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return LoadSave.createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        return gc.createCompatibleVolatileImage(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+    }
+
+    /**
+     * Desenează cadrele, pe rând, de numărul specificat de ori.
+     *
+     * @param target Suprafața pe care se desenează.
+     * @param frames Cadrele de desenat.
+     * @param blits Numărul total de desenări.
+     * @return Durata în nanosecunde.
+     */
+    private static long blit(Image target, BufferedImage[] frames, int blits) {
+        Graphics2D g2d = (Graphics2D) target.getGraphics();
+        int cols = Game.GAME_WIDTH / FRAME_SIZE;
+        long start = System.nanoTime();
+        for (int n = 0; n < blits; n++) {
+            BufferedImage frame = frames[n % frames.length];
+            int cell = n % (cols * (Game.GAME_HEIGHT / FRAME_SIZE));
+            g2d.drawImage(frame, (cell % cols) * FRAME_SIZE, (cell / cols) * FRAME_SIZE, null);
+        }
+        sync(target);
+        long duration = System.nanoTime() - start;
+        g2d.dispose();
+        return duration;
+    }
+
+    /**
+     * Afișează rezultatul unei măsurători.
+     *
+     * @param label Numele variantei măsurate.
+     * @param blits Numărul de desenări.
+     * @param nanos Durata în nanosecunde.
+     */
+    private static void report(String label, int blits, long nanos) {
+        double ms = nanos / 1_000_000.0;
+        System.out.printf("%-20s %8.2f ms  %12.0f desenări/s%n", label, ms, blits / (nanos / 1_000_000_000.0));
+    }
+
+    /**
+     * Forțează terminarea desenărilor în așteptare pe suprafața dată,
+     * pentru ca acestea să fie incluse în măsurătoare.
+     *
+     * @param target Suprafața de desenare.
+     */
+    private static void sync(Image target) {
+        if (target instanceof BufferedImage) {
+            ((BufferedImage) target).getRGB(0, 0); // Citirea unui pixel forțează finalizarea desenărilor
+        } else {
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+}
@@ -118,5 +118,70 @@ public class Constants {
         public static final int BANANA_TILE_ID = 99; 
         /** ID-ul tile-ului gol (spațiu liber). */
         public static final int EMPTY_TILE_ID = -1; 
+        /** Scalarea tile-urilor la încărcarea nivelului folosind pixelul cel mai apropiat (margini clare). */
+        public static final int SCALING_NEAREST = 0;
+        /** Scalarea tile-urilor la încărcarea nivelului folosind interpolare biliniară (margini netezite). */
+        public static final int SCALING_BILINEAR = 1;
+        /**
+         * Modul de scalare folosit de {@link levels.LevelManager} la pre-scalarea tileset-urilor:
+         * {@link #SCALING_NEAREST} păstrează aspectul pixel-art, {@link #SCALING_BILINEAR} netezește marginile.
+         */
+        public static final int TILE_SCALING = SCALING_NEAREST;
+    }
+
+    /**
+     * Constante legate de animațiile entităților.
+     */
+    public static class Animations {
+        /**
+         * Dacă este {@code true}, cadrele inversate ale unui set de animații sunt generate în fundal
+         * imediat după încărcarea setului; altfel fiecare cadru inversat este generat la prima afișare.
+         */
+        public static final boolean WARM_FLIPPED_FRAMES = false;
+    }
+
+    /**
+     * Constante legate de bucla principală a jocului (vezi {@link main.FrameScheduler}).
+     */
+    public static class GameLoop {
+        /**
+         * Dacă este {@code true}, între actualizări și cadre firul jocului este parcat și așteaptă activ
+         * doar ultima porțiune; altfel așteaptă activ tot timpul (folosește un nucleu întreg).
+         */
+        public static final boolean HYBRID_SCHEDULER = true;
+        /** Durata așteptării active dinaintea fiecărui termen, în nanosecunde. */
+        public static final long SPIN_WINDOW_NANOS = 500_000;
+        /**
+         * Numărul maxim de actualizări logice rulate într-o singură iterație a buclei, pentru a recupera
+         * întârzierea (de ex. după o pauză a colectorului de memorie sau încărcarea unui nivel).
+         * Întârzierea care depășește acest număr este abandonată, ca jocul să nu rămână în urma timpului real.
+         */
+        public static final int MAX_UPDATES_PER_FRAME = 5;
+        /**
+         * Dacă este {@code true}, cadrele sunt desenate de un fir separat de cel al actualizărilor, iar lumea
+         * de joc este desenată din listele publicate la finalul fiecărei actualizări (vezi {@link TripleBuffer}).
+         * Altfel, același fir actualizează și desenează, ca înainte.
+         */
+        public static final boolean SEPARATE_RENDER_THREAD = true;
+    }
+
+    /**
+     * Constante legate de cache-ul pe disc al imaginilor decodate (vezi {@link RasterCache}).
+     */
+    public static class Cache {
+        /** Dacă este {@code true}, imaginile decodate sunt păstrate pe disc între porniri. */
+        public static final boolean RASTER_CACHE_ENABLED = true;
+        /** Directorul în care sunt păstrate imaginile decodate. */
+        public static final String RASTER_CACHE_DIR = "data/raster-cache";
+        /**
+         * Memoria maximă, în octeți, ocupată de resursele nivelurilor inactive păstrate pentru
+         * o revenire rapidă (vezi {@link levels.LevelAssetManager}); resursele nivelului curent nu intră în buget.
+         */
+        public static final long LEVEL_ASSET_BUDGET_BYTES = 64L * 1024 * 1024;
+        /**
+         * Distanța (în tile-uri) față de capătul nivelului de la care nivelul următor
+         * începe să fie pregătit în fundal.
+         */
+        public static final int LEVEL_PREFETCH_DISTANCE_TILES = 40;
     }
 }
@@ -0,0 +1,131 @@
+package utilz;
+
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Program de măsurare a timpului de inversare pe orizontală a cadrelor de animație la pornire.
+ * Compară vechea inversare pixel cu pixel ({@code getRGB}/{@code setRGB}) cu inversarea
+ * pe rânduri din {@link ImageTransforms}, secvențial și în paralel.
+ * <p>
+ * Rulare: {@code java utilz.FlipBenchmark [numeFisier] [latimeCadru] [inaltimeCadru] [repetari]}
+ */
+public class FlipBenchmark {
+
+    /** Spritesheet-ul implicit folosit pentru măsurare (cadrele lui Karagor, 272x183, ca ale jucătorului). */
+    private static final String DEFAULT_SHEET = LoadSave.KARAGOR_SPRITESHEET;
+    /** Lățimea implicită a unui cadru. */
+    private static final int DEFAULT_FRAME_WIDTH = 272;
+    /** Înălțimea implicită a unui cadru. */
+    private static final int DEFAULT_FRAME_HEIGHT = 183;
+    /** Numărul implicit de repetări ale fiecărei măsurători. */
+    private static final int DEFAULT_RUNS = 5;
+
+    /**
+     * Punctul de intrare al programului de măsurare.
+     *
+     * @param args Opțional: numele fișierului din "/res/", dimensiunile cadrului și numărul de repetări.
+     */
+    public static void main(String[] args) {
+        String sheetName = args.length > 0 ? args[0] : DEFAULT_SHEET;
+        int frameWidth = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAME_WIDTH;
+        int frameHeight = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FRAME_HEIGHT;
+        int runs = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_RUNS;
+
+        BufferedImage sheet = LoadSave.getSpriteAtlas(sheetName);
+        if (sheet == null) {
+            System.err.println("FlipBenchmark: nu s-a putut încărca " + sheetName);
+            return;
+        }
+        BufferedImage[][] frames = cutFrames(sheet, frameWidth, frameHeight);
+        int count = frames.length * (frames.length > 0 ? frames[0].length : 0);
+        System.out.println("Spritesheet: " + sheetName + " (" + count + " cadre de " + frameWidth + "x" + frameHeight + ")");
+
+        // Încălzire, pentru ca toate variantele să fie măsurate după compilarea JIT
+        flipPerPixel(frames);
+        flipRows(frames);
+        ImageTransforms.flipHorizontal(frames);
+
+        long perPixel = Long.MAX_VALUE, rows = Long.MAX_VALUE, parallel = Long.MAX_VALUE;
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            flipPerPixel(frames);
+            perPixel = Math.min(perPixel, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            flipRows(frames);
+            rows = Math.min(rows, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            ImageTransforms.flipHorizontal(frames);
+            parallel = Math.min(parallel, System.nanoTime() - start);
+        }
+
+        report("getRGB/setRGB", perPixel, perPixel);
+        report("Rânduri", rows, perPixel);
+        report("Rânduri, paralel", parallel, perPixel);
+        System.out.printf("Timp economisit la pornire pentru acest spritesheet: %.1f ms%n", (perPixel - parallel) / 1_000_000.0);
+    }
+
+    /**
+     * Extrage cadrele din spritesheet, pe rânduri.
+     *
+     * @param sheet Spritesheet-ul sursă.
+     * @param frameWidth Lățimea unui cadru.
+     * @param frameHeight Înălțimea unui cadru.
+     * @return Cadrele extrase.
+     */
+    private static BufferedImage[][] cutFrames(BufferedImage sheet, int frameWidth, int frameHeight) {
+        int cols = sheet.getWidth() / frameWidth;
+        int rows = sheet.getHeight() / frameHeight;
+        BufferedImage[][] frames = new BufferedImage[rows][cols];
+        for (int j = 0; j < rows; j++) {
+            for (int i = 0; i < cols; i++) {
+                frames[j][i] = sheet.getSubimage(i * frameWidth, j * frameHeight, frameWidth, frameHeight);
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Inversează cadrele secvențial, pixel cu pixel, la fel ca vechile metode {@code flipImage} ale entităților.
+     *
+     * @param frames Cadrele sursă.
+     */
+    private static void flipPerPixel(BufferedImage[][] frames) {
+        for (BufferedImage[] row : frames) {
+            for (BufferedImage image : row) {
+                BufferedImage flipped = LoadSave.createCompatibleImage(image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+                for (int x = 0; x < image.getWidth(); x++) {
+                    for (int y = 0; y < image.getHeight(); y++) {
+                        flipped.setRGB(image.getWidth() - 1 - x, y, image.getRGB(x, y));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inversează cadrele secvențial, pe rânduri, cu {@link ImageTransforms#flipHorizontal(BufferedImage)}.
+     *
+     * @param frames Cadrele sursă.
+     */
+    private static void flipRows(BufferedImage[][] frames) {
+        for (BufferedImage[] row : frames) {
+            for (BufferedImage image : row) {
+                ImageTransforms.flipHorizontal(image);
+            }
+        }
+    }
+
+    /**
+     * Afișează rezultatul unei măsurători.
+     *
+     * @param label Numele variantei măsurate.
+     * @param nanos Durata în nanosecunde.
+     * @param baseline Durata variantei de referință, în nanosecunde.
+     */
+    private static void report(String label, long nanos, long baseline) {
+        System.out.printf("%-20s %9.1f ms  %6.1fx%n", label, nanos / 1_000_000.0, (double) baseline / Math.max(1, nanos));
+    }
+}
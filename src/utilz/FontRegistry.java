@@ -0,0 +1,53 @@
+package utilz;
+
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registru comun pentru fontul personalizat al jocului ("Airstrike Bold").
+ * Fișierul TTF este citit și înregistrat în {@link GraphicsEnvironment} o singură dată,
+ * iar variantele de diferite dimensiuni sunt derivate o singură dată și refolosite.
+ * Refolosirea acelorași instanțe {@link Font} permite și refolosirea glifelor deja
+ * rasterizate de Java2D pentru fiecare dimensiune.
+ */
+public class FontRegistry {
+
+    /** Calea către fișierul fontului în resurse. */
+    private static final String AIRSTRIKE_FONT_PATH = "/res/font/airstrikebold.ttf";
+
+    /** Fontul de bază, încărcat la prima utilizare. */
+    private static Font baseFont;
+    /** Variantele derivate ale fontului, după dimensiune. */
+    private static final Map<Float, Font> derivedFonts = new ConcurrentHashMap<>();
+
+    /**
+     * Returnează fontul personalizat, îngroșat, la dimensiunea cerută.
+     * Dacă fontul nu poate fi încărcat, se folosește "Arial" îngroșat.
+     *
+     * @param size Dimensiunea fontului, în puncte.
+     * @return Fontul la dimensiunea cerută (aceeași instanță la fiecare apel cu aceeași dimensiune).
+     */
+    public static Font getAirstrikeFont(float size) {
+        return derivedFonts.computeIfAbsent(size, s -> getBaseFont().deriveFont(Font.BOLD, s));
+    }
+
+    /**
+     * Încarcă (o singură dată) fontul de bază și îl înregistrează în mediul grafic.
+     * @return Fontul de bază.
+     */
+    private static synchronized Font getBaseFont() {
+        if (baseFont != null) return baseFont;
+        try (InputStream is = FontRegistry.class.getResourceAsStream(AIRSTRIKE_FONT_PATH)) {
+            baseFont = Font.createFont(Font.TRUETYPE_FONT, is);
+            GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
+            ge.registerFont(baseFont);
+        } catch (Exception e) {
+            e.printStackTrace();
+            baseFont = new Font("Arial", Font.BOLD, 36);
+        }
+        return baseFont;
+    }
+}
@@ -0,0 +1,117 @@
+package utilz;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Transformări comune aplicate imaginilor la încărcare (de ex., inversarea pe orizontală
+ * a cadrelor de animație pentru entitățile orientate spre dreapta).
+ * <p>
+ * Inversarea copiază rânduri întregi din raster și le oglindește direct în tablouri de pixeli,
+ * fără conversia de culoare pe care o fac {@code getRGB}/{@code setRGB} pentru fiecare pixel.
+ * Imaginea rezultată are același format (model de culoare și raster) ca sursa, deci rămâne
+ * compatibilă cu ecranul dacă sursa provine din {@link LoadSave#getSpriteAtlas(String)}.
+ */
+public class ImageTransforms {
+
+    /**
+     * Inversează o imagine pe orizontală.
+     *
+     * @param image Imaginea sursă (poate fi o sub-imagine a unui spritesheet).
+     * @return O imagine nouă, inversată, sau {@code null} dacă sursa este {@code null}.
+     */
+    public static BufferedImage flipHorizontal(BufferedImage image) {
+        if (image == null) return null;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        Raster src = image.getRaster();
+        WritableRaster dst = src.createCompatibleWritableRaster(width, height);
+        int pixelSize = src.getNumDataElements();
+
+        switch (src.getTransferType()) {
+            case DataBuffer.TYPE_INT: {
+                int[] row = new int[width * pixelSize];
+                for (int y = 0; y < height; y++) {
+                    src.getDataElements(0, y, width, 1, row);
+                    for (int left = 0, right = width - 1; left < right; left++, right--) {
+                        for (int k = 0; k < pixelSize; k++) {
+                            int tmp = row[left * pixelSize + k];
+                            row[left * pixelSize + k] = row[right * pixelSize + k];
+                            row[right * pixelSize + k] = tmp;
+                        }
+                    }
+                    dst.setDataElements(0, y, width, 1, row);
+                }
+                break;
+            }
+            case DataBuffer.TYPE_BYTE: {
+                byte[] row = new byte[width * pixelSize];
+                for (int y = 0; y < height; y++) {
+                    src.getDataElements(0, y, width, 1, row);
+                    for (int left = 0, right = width - 1; left < right; left++, right--) {
+                        for (int k = 0; k < pixelSize; k++) {
+                            byte tmp = row[left * pixelSize + k];
+                            row[left * pixelSize + k] = row[right * pixelSize + k];
+                            row[right * pixelSize + k] = tmp;
+                        }
+                    }
+                    dst.setDataElements(0, y, width, 1, row);
+                }
+                break;
+            }
+            default: {
+                // Formate mai rare (de ex., 16 biți per pixel): oglindire printr-o transformare afină
+                AffineTransform tx = AffineTransform.getScaleInstance(-1, 1);
+                tx.translate(-width, 0);
+                AffineTransformOp op = new AffineTransformOp(tx, AffineTransformOp.TYPE_NEAREST_NEIGHBOR);
+                return op.filter(image, null);
+            }
+        }
+        return new BufferedImage(image.getColorModel(), dst, image.isAlphaPremultiplied(), null);
+    }
+
+    /**
+     * Inversează pe orizontală toate cadrele unei animații, în paralel, folosind
+     * {@link ForkJoinPool#commonPool()}. Cadrele {@code null} rămân {@code null}.
+     *
+     * @param frames Cadrele sursă, pe rânduri.
+     * @return Cadrele inversate, cu aceeași structură ca sursa.
+     */
+    public static BufferedImage[][] flipHorizontal(BufferedImage[][] frames) {
+        BufferedImage[][] flipped = new BufferedImage[frames.length][];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int row = 0; row < frames.length; row++) {
+            if (frames[row] == null) continue;
+            flipped[row] = new BufferedImage[frames[row].length];
+            for (int col = 0; col < frames[row].length; col++) {
+                if (frames[row][col] == null) continue;
+                final int r = row, c = col;
+                tasks.add(() -> {
+                    flipped[r][c] = flipHorizontal(frames[r][c]);
+                    return null;
+                });
+            }
+        }
+        for (Future<Void> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                System.err.println("Eroare la inversarea unui cadru: " + e.getCause());
+            }
+        }
+        return flipped;
+    }
+}
@@ -1,8 +1,16 @@
 package utilz;
 
 import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 // import java.io.FileReader; // FileReader nu este folosit, se folosește InputStreamReader
 import java.io.IOException;
 import java.io.InputStream;
@@ -11,6 +19,8 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import main.Game;
+
 /**
  * Clasă utilitară responsabilă pentru încărcarea resurselor jocului,
  * cum ar fi imaginile (sprite atlas-uri) și datele nivelurilor din fișiere.
@@ -83,6 +93,27 @@ public class LoadSave {
     /** Calea către spritesheet-ul pentru Golem Boss. */
     public static final String GOLEM_BOSS_SPRITESHEET = "compressed_golem_boss_purple.png";
 
+    /**
+     * Imaginile decodate în avans, concurent, pe ecranul de încărcare (vezi {@link AssetPreloader}).
+     * Stările de joc le primesc apoi direct din {@link AssetCache}.
+     */
+    public static final String[] PRELOADED_IMAGES = {
+            MENU_BUTTONS, LEVEL_BUTTONS, MENU_BACKGROUND, FRAME_LOADGAME, ENTER_NAME_FRAME,
+            "groover.png", "knob.png", "options_frame.png", "leaderboard_frame.png", "player_box.png",
+            "game_over.png", "level_finished.png", GAME_UI, "crystal.png",
+            GREEN_GEM, ORANGE_GEM, PURPLE_GEM
+    };
+
+    /**
+     * Spritesheet-urile jucătorului, preîncărcate împreună cu {@link #PRELOADED_IMAGES}.
+     * Pentru cele care au un atlas compact (vezi {@link PackedSheet}) se decodează doar atlasul.
+     * Spritesheet-urile inamicilor sunt încărcate doar pentru nivelurile în care apar
+     * (vezi {@link levels.LevelAssetManifest}).
+     */
+    public static final String[] PRELOADED_SPRITESHEETS = {
+            PLAYER_ATLAS, KOBA_RUSH
+    };
+
     /** Imaginea preîncărcată pentru banană. */
     public static BufferedImage BANANA_IMAGE;
     /** Imaginea preîncărcată pentru nuca de cocos statică (colectabil). */
@@ -119,33 +150,212 @@ public class LoadSave {
     
     /**
      * Încarcă o imagine (sprite atlas) din directorul de resurse.
+     * Fiecare fișier este decodat o singură dată; apelurile ulterioare primesc aceeași
+     * instanță din {@link AssetCache}, deci imaginea returnată nu trebuie modificată.
+     * Imaginea decodată este convertită în formatul compatibil cu ecranul, cu alfa pre-multiplicat,
+     * pentru ca desenarea ei (și a cadrelor extrase din ea) să nu mai necesite conversii.
      *
      * @param filename Numele fișierului imagine (de ex., "player_atlas.png").
      * @return Un obiect {@link BufferedImage} reprezentând imaginea încărcată,
      *         sau {@code null} dacă încărcarea eșuează.
      */
     public static BufferedImage getSpriteAtlas(String filename) {
-        BufferedImage img = null;
-        InputStream is = LoadSave.class.getResourceAsStream("/res/" + filename);
-        if (is == null) {
-            System.err.println("Eroare: Resursa nu a fost găsită: /res/" + filename);
+        return AssetCache.get(filename, () -> decodeImage(filename));
+    }
+
+    /**
+     * Încarcă o imagine la fel ca {@link #getSpriteAtlas(String)}, dar o reține în {@link AssetCache}
+     * până la apelul {@link #releaseSpriteAtlas(String)}. Folosită pentru resursele unui nivel,
+     * care trebuie să rămână în memorie cât timp nivelul este activ.
+     *
+     * @param filename Numele fișierului imagine.
+     * @return Imaginea încărcată sau {@code null} dacă încărcarea eșuează.
+     */
+    public static BufferedImage acquireSpriteAtlas(String filename) {
+        return AssetCache.acquire(filename, () -> decodeImage(filename));
+    }
+
+    /**
+     * Eliberează o imagine reținută cu {@link #acquireSpriteAtlas(String)}.
+     * Imaginea poate fi apoi eliberată din memorie dacă nu mai este folosită.
+     *
+     * @param filename Numele fișierului imagine.
+     */
+    public static void releaseSpriteAtlas(String filename) {
+        AssetCache.release(filename);
+    }
+
+    /**
+     * Returnează fundalul ecranelor de meniu ({@link #START_BACKGROUND}), scalat cu
+     * {@link Game#SCALE}, centrat orizontal și pre-desenat la dimensiunea ecranului.
+     * Imaginea este creată o singură dată și partajată de toate stările care o folosesc.
+     *
+     * @return Fundalul la dimensiunea ecranului sau {@code null} dacă nu a putut fi încărcat.
+     */
+    public static BufferedImage getStartBackground() {
+        return AssetCache.get("screen:" + START_BACKGROUND, () -> {
+            BufferedImage img = decodeImage(START_BACKGROUND);
+            if (img == null) return null;
+            int width = (int) (img.getWidth() * Game.SCALE);
+            int height = (int) (img.getHeight() * Game.SCALE);
+            return toScreenImage(img, Game.GAME_WIDTH / 2 - width / 2, 0, width, height);
+        });
+    }
+
+    /**
+     * Decodează o imagine din directorul de resurse, fără a folosi cache-ul din memorie,
+     * și o convertește în formatul compatibil cu ecranul.
+     * Folosită pentru imaginile sursă din care se derivează alte imagini păstrate în {@link AssetCache}
+     * (de ex., fundalurile scalate), pentru ca sursa să nu rămână și ea în memorie.
+     * Imaginea convertită este păstrată și pe disc, în {@link RasterCache}; la pornirile următoare
+     * ea este citită de acolo, cât timp conținutul fișierului PNG nu s-a schimbat.
+     *
+     * @param filename Numele fișierului imagine.
+     * @return Imaginea decodată sau {@code null} dacă încărcarea eșuează.
+     */
+    public static BufferedImage decodeImage(String filename) {
+        byte[] encoded;
+        try (InputStream is = LoadSave.class.getResourceAsStream("/res/" + filename)) {
+            if (is == null) {
+                System.err.println("Eroare: Resursa nu a fost găsită: /res/" + filename);
+                return null;
+            }
+            encoded = readAllBytes(is);
+        } catch (IOException e) {
+            System.err.println("Eroare la citirea imaginii: /res/" + filename);
+            e.printStackTrace();
             return null;
         }
+
+        byte[] hash = RasterCache.hash(encoded);
+        BufferedImage cached = RasterCache.read(filename, hash);
+        if (cached != null && isCompatibleType(cached)) {
+            return cached;
+        }
+
+        BufferedImage img = null;
         try {
-            img = ImageIO.read(is);
+            img = ImageIO.read(new ByteArrayInputStream(encoded));
         } catch (IOException e) {
             System.err.println("Eroare la citirea imaginii: /res/" + filename);
             e.printStackTrace();
-        } finally {
-            try {
-                if (is != null) is.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        }
+        BufferedImage compatible = toCompatibleImage(img);
+        RasterCache.write(filename, hash, compatible);
+        return compatible;
+    }
+
+    /**
+     * Citește tot conținutul unui flux.
+     *
+     * @param is Fluxul de intrare.
+     * @return Octeții citiți.
+     * @throws IOException Dacă citirea eșuează.
+     */
+    private static byte[] readAllBytes(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(8192, is.available()));
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Verifică dacă o imagine citită din {@link RasterCache} are formatul compatibil cu ecranul
+     * curent (ecranul sau modul headless se pot schimba între porniri).
+     *
+     * @param img Imaginea citită.
+     * @return {@code true} dacă are tipul pe care l-ar produce {@link #toCompatibleImage(BufferedImage)}.
+     */
+    private static boolean isCompatibleType(BufferedImage img) {
+        return img.getType() == createCompatibleImage(1, 1, img.getTransparency()).getType();
+    }
+
+    /**
+     * Creează o imagine goală compatibilă cu configurația grafică a ecranului,
+     * care poate fi desenată fără conversii de format.
+     * Imaginile cu transparență folosesc alfa pre-multiplicat; dacă formatul compatibil
+     * al ecranului nu este pre-multiplicat, se folosește {@code TYPE_INT_ARGB_PRE}.
+     * În modul headless se întoarce direct o imagine {@code TYPE_INT_ARGB_PRE}.
+     *
+     * @param width Lățimea imaginii.
+     * @param height Înălțimea imaginii.
+     * @param transparency Tipul de transparență ({@link java.awt.Transparency#OPAQUE},
+     *                     {@link java.awt.Transparency#BITMASK} sau {@link java.awt.Transparency#TRANSLUCENT}).
+     * @return Imaginea nou creată.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        BufferedImage img = gc.createCompatibleImage(width, height, transparency);
+        if (transparency != Transparency.OPAQUE && !img.isAlphaPremultiplied()) {
+            img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
         }
         return img;
     }
 
+    /**
+     * Convertește o imagine încărcată într-o copie în formatul compatibil cu ecranul
+     * (vezi {@link #createCompatibleImage(int, int, int)}), păstrând dimensiunile.
+     * Sub-imaginile obținute ulterior cu {@code getSubimage} moștenesc acest format.
+     *
+     * @param src Imaginea sursă, în formatul produs de decodor.
+     * @return Copia convertită, sau {@code null} dacă sursa este {@code null}.
+     */
+    public static BufferedImage toCompatibleImage(BufferedImage src) {
+        if (src == null) return null;
+        int transparency = src.getTransparency() == Transparency.OPAQUE ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+        BufferedImage img = createCompatibleImage(src.getWidth(), src.getHeight(), transparency);
+        Graphics2D g2d = img.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(src, 0, 0, null);
+        g2d.dispose();
+        return img;
+    }
+
+    /**
+     * Convertește o imagine afișată pe tot ecranul într-o copie compatibilă cu ecranul,
+     * scalată o singură dată la exact {@code GAME_WIDTH x GAME_HEIGHT}.
+     * Copia poate fi apoi desenată la fiecare frame fără nicio scalare.
+     *
+     * @param src Imaginea sursă.
+     * @return Copia la dimensiunea ecranului sau {@code null} dacă sursa este {@code null}.
+     */
+    public static BufferedImage toScreenImage(BufferedImage src) {
+        return toScreenImage(src, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+    }
+
+    /**
+     * Convertește o imagine într-o copie compatibilă cu ecranul, de dimensiunea
+     * {@code GAME_WIDTH x GAME_HEIGHT}, în care sursa este desenată în dreptunghiul specificat.
+     * Util pentru fundalurile centrate sau decupate, care apoi se desenează la (0, 0) fără scalare.
+     *
+     * @param src Imaginea sursă.
+     * @param x Poziția x a sursei pe ecran.
+     * @param y Poziția y a sursei pe ecran.
+     * @param width Lățimea cu care sursa este desenată pe ecran.
+     * @param height Înălțimea cu care sursa este desenată pe ecran.
+     * @return Copia la dimensiunea ecranului sau {@code null} dacă sursa este {@code null}.
+     */
+    public static BufferedImage toScreenImage(BufferedImage src, int x, int y, int width, int height) {
+        if (src == null) return null;
+        boolean coversScreen = x <= 0 && y <= 0 && x + width >= Game.GAME_WIDTH && y + height >= Game.GAME_HEIGHT;
+        int transparency = (coversScreen && src.getTransparency() == Transparency.OPAQUE) ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+
+        BufferedImage screenImg = createCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, transparency);
+        Graphics2D g2d = screenImg.createGraphics();
+        // Pixelul cel mai apropiat, ca la scalarea implicită a drawImage: aspectul pixel-art rămâne neschimbat
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(src, x, y, width, height, null);
+        g2d.dispose();
+        return screenImg;
+    }
+
     /**
      * Încarcă datele unui nivel dintr-un fișier CSV specificat.
      * Fișierul CSV trebuie să fie localizat în directorul de resurse ("/res/").
@@ -0,0 +1,205 @@
+package utilz;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spritesheet compact generat de {@link AtlasPacker}: cadrele decupate la pixelii vizibili,
+ * așezate strâns într-un atlas, împreună cu metadatele care le leagă de celulele
+ * spritesheet-ului original (rând, coloană și decalajul față de colțul celulei).
+ * <p>
+ * Metadatele se află în {@code /res/packed/<nume>.atlas}, unde {@code <nume>} este numele
+ * spritesheet-ului original fără extensie. Dacă ele lipsesc, {@link #load(String)} întoarce
+ * {@code null} și se folosește spritesheet-ul original.
+ */
+public class PackedSheet {
+
+    /** Subdirectorul din "/res/" în care se află atlasele compacte. */
+    public static final String PACKED_DIR = "packed";
+    /** Extensia fișierelor de metadate. */
+    public static final String METADATA_EXTENSION = ".atlas";
+
+    /** Atlasele deja încărcate (sau absența lor), după numele spritesheet-ului original. */
+    private static final Map<String, Optional<PackedSheet>> cache = new ConcurrentHashMap<>();
+
+    /** Lățimea unei celule din spritesheet-ul original. */
+    private final int cellWidth;
+    /** Înălțimea unei celule din spritesheet-ul original. */
+    private final int cellHeight;
+    /** Cadrele decupate, după rând și coloană ({@code null} pentru celulele goale). */
+    private final BufferedImage[][] frames;
+    /** Decalajul pe X al fiecărui cadru față de colțul celulei. */
+    private final int[][] offsetX;
+    /** Decalajul pe Y al fiecărui cadru față de colțul celulei. */
+    private final int[][] offsetY;
+
+    /**
+     * Returnează atlasul compact pentru spritesheet-ul dat, încărcându-l la prima cerere.
+     *
+     * @param sheetName Numele spritesheet-ului original (de ex., {@link LoadSave#KARAGOR_SPRITESHEET}).
+     * @return Atlasul compact sau {@code null} dacă nu există metadate pentru acest spritesheet.
+     */
+    public static PackedSheet load(String sheetName) {
+        return cache.computeIfAbsent(sheetName, k -> Optional.ofNullable(read(k))).orElse(null);
+    }
+
+    /**
+     * Elimină din cache atlasul compact al spritesheet-ului dat; imaginea atlasului rămâne
+     * în {@link AssetCache} doar prin referința soft, deci poate fi eliberată din memorie.
+     *
+     * @param sheetName Numele spritesheet-ului original.
+     */
+    public static void evict(String sheetName) {
+        cache.remove(sheetName);
+    }
+
+    /**
+     * Returnează numele de bază (fără extensie) al unui fișier imagine.
+     *
+     * @param sheetName Numele fișierului.
+     * @return Numele fără extensia ".png".
+     */
+    static String baseName(String sheetName) {
+        int dot = sheetName.lastIndexOf('.');
+        return dot > 0 ? sheetName.substring(0, dot) : sheetName;
+    }
+
+    /**
+     * Construiește atlasul din cadrele citite din metadate.
+     *
+     * @param cellWidth Lățimea celulei originale.
+     * @param cellHeight Înălțimea celulei originale.
+     * @param frames Cadrele, după rând și coloană.
+     * @param offsetX Decalajele pe X.
+     * @param offsetY Decalajele pe Y.
+     */
+    private PackedSheet(int cellWidth, int cellHeight, BufferedImage[][] frames, int[][] offsetX, int[][] offsetY) {
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.frames = frames;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+
+    /**
+     * Citește metadatele și imaginea unui atlas compact.
+     *
+     * @param sheetName Numele spritesheet-ului original.
+     * @return Atlasul sau {@code null} dacă metadatele lipsesc sau sunt invalide.
+     */
+    private static PackedSheet read(String sheetName) {
+        String dir = PACKED_DIR + "/";
+        InputStream is = PackedSheet.class.getResourceAsStream("/res/" + dir + baseName(sheetName) + METADATA_EXTENSION);
+        if (is == null) {
+            return null;
+        }
+        String imageName = null;
+        int cellWidth = 0, cellHeight = 0, rows = 0, cols = 0;
+        List<int[]> entries = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] values = line.split("\\s+");
+                switch (values[0]) {
+                    case "image":
+                        imageName = values[1];
+                        break;
+                    case "cell":
+                        cellWidth = Integer.parseInt(values[1]);
+                        cellHeight = Integer.parseInt(values[2]);
+                        break;
+                    case "frame":
+                        int[] e = new int[8];
+                        for (int i = 0; i < e.length; i++) {
+                            e[i] = Integer.parseInt(values[i + 1]);
+                        }
+                        rows = Math.max(rows, e[0] + 1);
+                        cols = Math.max(cols, e[1] + 1);
+                        entries.add(e);
+                        break;
+                    default:
+                        System.err.println("PackedSheet: linie necunoscută în metadatele " + sheetName + ": " + line);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Eroare la citirea metadatelor atlasului pentru " + sheetName + ": " + e.getMessage());
+            return null;
+        }
+
+        BufferedImage atlas = imageName != null ? LoadSave.getSpriteAtlas(dir + imageName) : null;
+        if (atlas == null || cellWidth <= 0 || cellHeight <= 0) {
+            System.err.println("PackedSheet: atlas invalid pentru " + sheetName + ", se folosește spritesheet-ul original.");
+            return null;
+        }
+        BufferedImage[][] frames = new BufferedImage[rows][cols];
+        int[][] offsetX = new int[rows][cols];
+        int[][] offsetY = new int[rows][cols];
+        for (int[] e : entries) {
+            frames[e[0]][e[1]] = atlas.getSubimage(e[2], e[3], e[4], e[5]);
+            offsetX[e[0]][e[1]] = e[6];
+            offsetY[e[0]][e[1]] = e[7];
+        }
+        return new PackedSheet(cellWidth, cellHeight, frames, offsetX, offsetY);
+    }
+
+    /**
+     * Returnează lățimea unei celule din spritesheet-ul original.
+     * @return Lățimea celulei.
+     */
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Returnează înălțimea unei celule din spritesheet-ul original.
+     * @return Înălțimea celulei.
+     */
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    /**
+     * Returnează cadrul decupat din celula dată.
+     *
+     * @param row Rândul celulei.
+     * @param col Coloana celulei.
+     * @return Cadrul sau {@code null} dacă celula este goală sau nu există.
+     */
+    public BufferedImage getFrame(int row, int col) {
+        if (row < 0 || row >= frames.length || col < 0 || col >= frames[row].length) return null;
+        return frames[row][col];
+    }
+
+    /**
+     * Returnează decalajul pe X al cadrului față de colțul celulei originale.
+     *
+     * @param row Rândul celulei.
+     * @param col Coloana celulei.
+     * @return Decalajul în pixeli (0 dacă celula nu există).
+     */
+    public int getOffsetX(int row, int col) {
+        return getFrame(row, col) != null ? offsetX[row][col] : 0;
+    }
+
+    /**
+     * Returnează decalajul pe Y al cadrului față de colțul celulei originale.
+     *
+     * @param row Rândul celulei.
+     * @param col Coloana celulei.
+     * @return Decalajul în pixeli (0 dacă celula nu există).
+     */
+    public int getOffsetY(int row, int col) {
+        return getFrame(row, col) != null ? offsetY[row][col] : 0;
+    }
+}
@@ -0,0 +1,253 @@
+package utilz;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache pe disc al imaginilor deja decodate, pentru ca la pornirile următoare
+ * fișierele PNG să nu mai fie decomprimate.
+ * <p>
+ * Pentru fiecare resursă se păstrează un fișier {@code <nume>.raster} în {@link Constants.Cache#RASTER_CACHE_DIR},
+ * cu pixelii ARGB ai imaginii compatibile cu ecranul și hash-ul SHA-256 al conținutului PNG din care provin.
+ * La citire, pixelii sunt mapați în memorie cu {@link FileChannel#map} și copiați rând cu rând
+ * în rasterul ({@link DataBufferInt}) imaginii, fără nicio decodare. Dacă hash-ul nu mai corespunde (resursa a fost modificată),
+ * fișierul este invalid sau formatul imaginii diferă, imaginea este decodată cu ImageIO și intrarea rescrisă.
+ */
+public class RasterCache {
+
+    /** Identificatorul formatului fișierelor din cache ("KRC1"). */
+    private static final int MAGIC = 0x4B524331;
+    /** Lungimea hash-ului SHA-256, în octeți. */
+    private static final int HASH_LENGTH = 32;
+    /** Lungimea antetului: identificator, ordinea octeților, hash, lățime, înălțime, tipul imaginii. */
+    private static final int HEADER_LENGTH = 4 + 1 + HASH_LENGTH + 4 + 4 + 4;
+
+    /** Numărul de imagini citite din cache. */
+    private static final AtomicInteger hits = new AtomicInteger();
+    /** Numărul de imagini care au trebuit decodate (și scrise în cache). */
+    private static final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Calculează hash-ul conținutului unei resurse.
+     *
+     * @param encoded Conținutul fișierului (de ex., octeții PNG).
+     * @return Hash-ul SHA-256.
+     */
+    public static byte[] hash(byte[] encoded) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(encoded);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponibil", e);
+        }
+    }
+
+    /**
+     * Citește din cache imaginea decodată a unei resurse.
+     *
+     * @param filename Numele resursei (de ex., "karagor_compressed_spritesheet.png").
+     * @param hash Hash-ul conținutului actual al resursei (vezi {@link #hash(byte[])}).
+     * @return Imaginea, în tipul cu care a fost scrisă, sau {@code null} dacă nu există
+     *         o intrare validă pentru acest conținut.
+     */
+    public static BufferedImage read(String filename, byte[] hash) {
+        if (!Constants.Cache.RASTER_CACHE_ENABLED) return null;
+        Path file = fileFor(filename);
+        if (!Files.isRegularFile(file)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Antetul se citește normal; fișierul este mapat doar dacă intrarea este validă
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (header.hasRemaining() && channel.read(header) >= 0) { }
+            header.flip();
+            if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC) {
+                return invalid(filename, "antet invalid");
+            }
+            ByteOrder order = header.get() == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            byte[] storedHash = new byte[HASH_LENGTH];
+            header.get(storedHash);
+            int width = header.getInt();
+            int height = header.getInt();
+            int type = header.getInt();
+            if (!Arrays.equals(storedHash, hash)) {
+                return invalid(filename, "resursa a fost modificată");
+            }
+            long pixelBytes = (long) width * height * 4;
+            if (!isCacheableType(type) || width <= 0 || height <= 0 || channel.size() != HEADER_LENGTH + pixelBytes) {
+                return invalid(filename, "dimensiuni sau format diferit");
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_LENGTH, pixelBytes);
+            IntBuffer pixels = mapped.order(order).asIntBuffer();
+            BufferedImage img = new BufferedImage(width, height, type);
+            // setDataElements (nu getData()) păstrează imaginea accelerabilă de Java2D
+            WritableRaster raster = img.getRaster();
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++) {
+                pixels.get(row);
+                raster.setDataElements(0, y, width, 1, row);
+            }
+            hits.incrementAndGet();
+            return img;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("RasterCache: eroare la citirea " + file + ": " + e.getMessage());
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Scrie în cache imaginea decodată a unei resurse. Sunt acceptate doar imaginile
+     * cu pixeli {@code int} (de ex., {@code TYPE_INT_ARGB_PRE}); celelalte sunt ignorate.
+     * Fișierul este scris întâi sub un nume temporar, pentru ca o pornire întreruptă
+     * să nu lase în cache o intrare incompletă.
+     *
+     * @param filename Numele resursei.
+     * @param hash Hash-ul conținutului resursei.
+     * @param img Imaginea decodată.
+     */
+    public static void write(String filename, byte[] hash, BufferedImage img) {
+        if (!Constants.Cache.RASTER_CACHE_ENABLED || img == null || !isCacheable(img)) return;
+        Path file = fileFor(filename);
+        Path temp = file.resolveSibling(file.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+        int width = img.getWidth();
+        int height = img.getHeight();
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+                header.putInt(MAGIC);
+                header.put((byte) (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 0 : 1));
+                header.put(hash);
+                header.putInt(width);
+                header.putInt(height);
+                header.putInt(img.getType());
+                header.flip();
+                writeFully(channel, header);
+                // Pixelii sunt scriși în ordinea nativă, pentru ca citirea să nu mai inverseze octeții
+                ByteBuffer rowBytes = ByteBuffer.allocateDirect(width * 4).order(ByteOrder.nativeOrder());
+                IntBuffer rowInts = rowBytes.asIntBuffer();
+                int[] row = new int[width];
+                for (int y = 0; y < height; y++) {
+                    img.getRaster().getDataElements(0, y, width, 1, row);
+                    rowInts.clear();
+                    rowInts.put(row);
+                    rowBytes.clear();
+                    writeFully(channel, rowBytes);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("RasterCache: nu s-a putut scrie " + file + ": " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // Fișierul temporar va fi suprascris la următoarea scriere
+            }
+        }
+    }
+
+    /**
+     * Returnează numărul de imagini citite din cache.
+     * @return Numărul de citiri reușite.
+     */
+    public static int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returnează numărul de imagini care nu au fost găsite (valide) în cache.
+     * @return Numărul de imagini decodate cu ImageIO.
+     */
+    public static int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Afișează în consolă numărul de imagini citite din cache și al celor decodate cu ImageIO.
+     */
+    public static void printStats() {
+        System.out.println("RasterCache: citite din cache: " + getHits() + ", decodate: " + getMisses());
+    }
+
+    /**
+     * Verifică dacă o imagine poate fi păstrată în cache: pixelii trebuie să fie
+     * câte un {@code int} per pixel, într-un tip standard de imagine.
+     *
+     * @param img Imaginea.
+     * @return {@code true} dacă imaginea poate fi scrisă în cache.
+     */
+    private static boolean isCacheable(BufferedImage img) {
+        return isCacheableType(img.getType()) && img.getRaster().getDataBuffer() instanceof DataBufferInt;
+    }
+
+    /**
+     * Verifică dacă un tip de imagine are câte un {@code int} per pixel.
+     *
+     * @param type Tipul imaginii (vezi {@link BufferedImage#getType()}).
+     * @return {@code true} pentru {@code TYPE_INT_ARGB}, {@code TYPE_INT_ARGB_PRE} și {@code TYPE_INT_RGB}.
+     */
+    private static boolean isCacheableType(int type) {
+        return type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_ARGB_PRE
+                || type == BufferedImage.TYPE_INT_RGB;
+    }
+
+    /**
+     * Scrie tot conținutul rămas al unui buffer în fișier.
+     *
+     * @param channel Fișierul.
+     * @param buffer Datele de scris.
+     * @throws IOException Dacă scrierea eșuează.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Raportează o intrare invalidă; imaginea va fi decodată și intrarea rescrisă.
+     *
+     * @param filename Numele resursei.
+     * @param reason Motivul.
+     * @return {@code null}.
+     */
+    private static BufferedImage invalid(String filename, String reason) {
+        System.err.println("RasterCache: intrarea pentru " + filename + " este ignorată (" + reason + ").");
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Returnează fișierul din cache pentru o resursă.
+     *
+     * @param filename Numele resursei (poate conține subdirectoare, de ex. "packed/...").
+     * @return Calea fișierului din cache.
+     */
+    private static Path fileFor(String filename) {
+        return Paths.get(Constants.Cache.RASTER_CACHE_DIR, filename.replace('/', '_').replace('\\', '_') + ".raster");
+    }
+}
@@ -0,0 +1,53 @@
+package utilz;
+
+/**
+ * Timpul simulării: fiecare actualizare logică a jocului avansează timpul simulat cu un pas fix
+ * ({@link #DT}), independent de timpul real sau de frecvența cadrelor.
+ * <p>
+ * Duratele de joc (cooldown-uri, efecte temporare, viteze de animație) sunt exprimate în secunde
+ * de timp simulat și transformate în actualizări prin {@link #ticks(float)}. Astfel, schimbarea
+ * frecvenței actualizărilor ({@link #UPS}) nu schimbă cât durează ele în joc.
+ * Vitezele de deplasare și gravitația sunt în continuare exprimate per actualizare.
+ */
+public class SimulationClock {
+
+    /** Numărul de actualizări logice pe secundă (Updates Per Second) ale buclei jocului. */
+    public static final int UPS = 120;
+    /** Durata unei actualizări logice, în secunde de timp simulat. */
+    public static final float DT = 1f / UPS;
+
+    private SimulationClock() {
+    }
+
+    /**
+     * Transformă o durată în numărul de actualizări necesare, rotunjit la cea mai apropiată valoare.
+     * O durată pozitivă durează cel puțin o actualizare.
+     *
+     * @param seconds Durata, în secunde de timp simulat.
+     * @return Numărul de actualizări.
+     */
+    public static int ticks(float seconds) {
+        if (seconds <= 0) return 0;
+        return Math.max(1, Math.round(seconds * UPS));
+    }
+
+    /**
+     * Returnează numărul de actualizări cât rămâne afișat un cadru al unei animații.
+     *
+     * @param framesPerSecond Viteza animației, în cadre pe secundă de timp simulat.
+     * @return Numărul de actualizări per cadru (cel puțin 1).
+     */
+    public static int ticksPerFrame(float framesPerSecond) {
+        return ticks(1f / framesPerSecond);
+    }
+
+    /**
+     * Transformă un număr de actualizări în secunde de timp simulat.
+     *
+     * @param ticks Numărul de actualizări.
+     * @return Durata, în secunde.
+     */
+    public static float seconds(int ticks) {
+        return ticks * DT;
+    }
+}
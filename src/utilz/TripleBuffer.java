@@ -0,0 +1,73 @@
+package utilz;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Trei buffere prin care un fir producător (actualizările jocului) transmite ultima stare completă
+ * unui fir consumator (randarea), fără blocări.
+ * <p>
+ * Producătorul scrie mereu în bufferul propriu ({@link #getWriteBuffer()}) și îl publică cu
+ * {@link #publish()}; consumatorul citește cu {@link #getReadBuffer()} cel mai recent buffer publicat.
+ * Cele două fire nu folosesc niciodată același buffer în același timp: bufferul publicat și
+ * încă necitit este schimbat atomic, iar o stare publicată de mai multe ori înainte de a fi citită
+ * este pur și simplu înlocuită de cea mai nouă.
+ *
+ * @param <T> Tipul bufferelor.
+ */
+public class TripleBuffer<T> {
+
+    /** Bitul care marchează bufferul publicat ca necitit. */
+    private static final int FRESH = 4;
+    /** Masca indexului bufferului publicat. */
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers = new Object[3];
+    /** Indexul bufferului publicat, împreună cu bitul {@link #FRESH}. */
+    private final AtomicInteger published = new AtomicInteger(2);
+    /** Indexul bufferului scris de producător (folosit doar de firul acestuia). */
+    private int writeIndex = 0;
+    /** Indexul bufferului citit de consumator (folosit doar de firul acestuia). */
+    private int readIndex = 1;
+
+    /**
+     * Creează cele trei buffere.
+     *
+     * @param factory Funcția care creează un buffer.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Returnează bufferul în care scrie producătorul.
+     * @return Bufferul de scriere.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * Publică bufferul scris și preia alt buffer pentru următoarea scriere.
+     */
+    public void publish() {
+        writeIndex = published.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returnează cel mai recent buffer publicat. Dacă nu a fost publicat nimic nou de la ultima
+     * citire, returnează același buffer ca data trecută.
+     *
+     * @return Bufferul de citire.
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadBuffer() {
+        if ((published.get() & FRESH) != 0) {
+            readIndex = published.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+}